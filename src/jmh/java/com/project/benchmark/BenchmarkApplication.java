@@ -0,0 +1,40 @@
+package com.project.benchmark;
+
+import com.project.PostManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the full application against an in-memory H2 database so benchmarks exercise
+ * the real service, repository and security wiring without an external MySQL. The
+ * schema comes from the same Flyway migrations as production.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... overrides) {
+        // Passed as command-line arguments so they take precedence over application.properties.
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.main.banner-mode=off",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=validate",
+                "--app.data-initializer.async=false",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.project=WARN",
+                "--logging.level.org.springframework.security=WARN"));
+        args.addAll(List.of(overrides));
+        return new SpringApplicationBuilder(PostManagementApplication.class).run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.benchmark;
+
+import com.project.entity.Comment;
+import com.project.entity.Post;
+import com.project.entity.User;
+import com.project.repository.CommentRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts 100k comments through JPA in chunks of one transaction each and reports
+ * inserts per second. {@code jdbcBatchSize=1} turns Hibernate's insert batching off for
+ * comparison.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+public class CommentInsertBenchmark {
+
+    private static final int COMMENTS = 100_000;
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Param({"50", "1"})
+    public int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private CommentRepository commentRepository;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private Long postId;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("--spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize);
+        commentRepository = context.getBean(CommentRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        entityManager = context.getBean(EntityManager.class);
+        postId = entityManager.createQuery("SELECT MIN(p.id) FROM Post p", Long.class).getSingleResult();
+        userId = entityManager.createQuery("SELECT MIN(u.id) FROM User u", Long.class).getSingleResult();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMMENTS)
+    public int insertComments() {
+        for (int start = 0; start < COMMENTS; start += CHUNK_SIZE) {
+            transactionTemplate.executeWithoutResult(status -> {
+                Post post = entityManager.getReference(Post.class, postId);
+                User user = entityManager.getReference(User.class, userId);
+                List<Comment> chunk = new ArrayList<>(CHUNK_SIZE);
+                for (int i = 0; i < CHUNK_SIZE; i++) {
+                    Comment comment = new Comment();
+                    comment.setText("Benchmark comment");
+                    comment.setPost(post);
+                    comment.setCreatedBy(user);
+                    chunk.add(comment);
+                }
+                commentRepository.saveAll(chunk);
+            });
+        }
+        return COMMENTS;
+    }
+}
@@ -0,0 +1,104 @@
+package com.project.benchmark;
+
+import com.project.config.CustomUserDetails;
+import com.project.config.CustomUserDetailsService;
+import com.project.entity.Role;
+import com.project.entity.User;
+import com.project.enums.RoleType;
+import com.project.util.jwt.JwtAuthenticationFilter;
+import com.project.util.jwt.JwtUtil;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGenerationAndValidationPurposesOnly";
+    private static final long EXPIRATION = 86_400_000L;
+
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private JwtAuthenticationFilter filter;
+    private CustomUserDetails userDetails;
+    private String token;
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, EXPIRATION, 10_000);
+        uncachedJwtUtil = new JwtUtil(SECRET, EXPIRATION, 0);
+
+        Role role = new Role();
+        role.setId(1L);
+        role.setName(RoleType.USER);
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("john");
+        user.setPassword("{noop}john123");
+        user.setEmail("john@example.com");
+        user.setRoles(Set.of(role));
+        userDetails = new CustomUserDetails(user);
+
+        filter = new JwtAuthenticationFilter(jwtUtil, new FixedUserDetailsService(userDetails));
+        token = jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public Claims verifyTokenCached() {
+        return jwtUtil.verifyToken(token);
+    }
+
+    @Benchmark
+    public Claims verifyTokenUncached() {
+        return uncachedJwtUtil.verifyToken(token);
+    }
+
+    @Benchmark
+    public Authentication filterPath() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static class FixedUserDetailsService extends CustomUserDetailsService {
+
+        private final UserDetails userDetails;
+
+        FixedUserDetailsService(UserDetails userDetails) {
+            super(null);
+            this.userDetails = userDetails;
+        }
+
+        @Override
+        public UserDetails loadUserByUsername(String username) {
+            return userDetails;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.benchmark;
+
+import com.project.config.CustomUserDetailsService;
+import com.project.util.jwt.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Full request handling through the security filter chain, {@code PostController},
+ * the services and JSON serialization, authenticated with a bearer token.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PostControllerBenchmark {
+
+    private static final String CREATE_POST_BODY =
+            "{\"title\":\"Benchmark post\",\"description\":\"Created by PostControllerBenchmark\",\"type\":\"ISSUE\"}";
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private String userBearer;
+    private String adminBearer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .apply(springSecurity())
+                .build();
+
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+        CustomUserDetailsService userDetailsService = context.getBean(CustomUserDetailsService.class);
+        userBearer = "Bearer " + jwtUtil.generateToken(userDetailsService.loadUserByUsername("john"));
+        adminBearer = "Bearer " + jwtUtil.generateToken(userDetailsService.loadUserByUsername("admin"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult getPostById() throws Exception {
+        return mockMvc.perform(get("/api/posts/{id}", 3)
+                        .header(HttpHeaders.AUTHORIZATION, userBearer))
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getApprovedPosts() throws Exception {
+        return mockMvc.perform(get("/api/posts/approved")
+                        .header(HttpHeaders.AUTHORIZATION, userBearer))
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getAllPostsAsAdmin() throws Exception {
+        return mockMvc.perform(get("/api/posts")
+                        .header(HttpHeaders.AUTHORIZATION, adminBearer))
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult createPost() throws Exception {
+        return mockMvc.perform(post("/api/posts")
+                        .header(HttpHeaders.AUTHORIZATION, userBearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREATE_POST_BODY))
+                .andReturn();
+    }
+}
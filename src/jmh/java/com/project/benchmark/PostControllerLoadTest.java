@@ -0,0 +1,210 @@
+package com.project.benchmark;
+
+import com.project.config.CustomUserDetailsService;
+import com.project.enums.PostStatus;
+import com.project.repository.PostRepository;
+import com.project.util.jwt.JwtUtil;
+import com.project.util.pagination.CursorPagination;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closed-loop HTTP load test of the {@code PostController} endpoints over a real Tomcat
+ * connector. Each concurrency level keeps that many requests in flight for a fixed time
+ * and reports throughput, p50/p99 latency and the error rate; every SQL statement can be
+ * delayed to simulate a slow database. Run it once per threading mode and compare:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.project.benchmark.PostControllerLoadTest \
+ *     -Dbenchmark.args="--stall-ms=20 --concurrency=50,200,400,800 --duration=10"
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.project.benchmark.PostControllerLoadTest \
+ *     -Dbenchmark.args="--virtual --stall-ms=20 --concurrency=50,200,400,800 --duration=10"
+ * </pre>
+ *
+ * The highest level that stays under 1% errors with p99 within {@code --slo-ms} is
+ * reported as the maximum sustainable concurrency; {@code --endpoints=POST} limits the run
+ * to endpoints whose name contains the given text.
+ */
+public final class PostControllerLoadTest {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final String CREATE_POST_BODY =
+            "{\"title\":\"Load test post\",\"description\":\"Created by PostControllerLoadTest\",\"type\":\"ISSUE\"}";
+
+    private PostControllerLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        boolean virtual = options.containsKey("virtual");
+        long stallMillis = Long.parseLong(options.getOrDefault("stall-ms", "20"));
+        int[] levels = Arrays.stream(options.getOrDefault("concurrency", "50,200,400,800").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "10")));
+        long sloMillis = Long.parseLong(options.getOrDefault("slo-ms", "1000"));
+
+        if (virtual && Runtime.version().feature() < 21) {
+            System.out.println("WARNING: virtual threads need Java 21+, this run uses platform threads on Java "
+                    + Runtime.version().feature());
+        }
+        System.setProperty("loadtest.stall-ms", Long.toString(stallMillis));
+        List<String> overrides = new ArrayList<>(List.of(
+                "--spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                        + SlowStatementInspector.class.getName()));
+        if (virtual) {
+            overrides.add("--spring.profiles.active=virtual");
+        }
+
+        ConfigurableApplicationContext context = BenchmarkApplication.start(overrides.toArray(String[]::new));
+        try {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            String only = options.getOrDefault("endpoints", "");
+            List<Endpoint> endpoints = endpoints(context, "http://localhost:" + port).stream()
+                    .filter(endpoint -> endpoint.name.contains(only))
+                    .toList();
+            HttpClient client = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+
+            System.out.printf("%nmode=%s stall=%dms duration=%ds java=%d%n", virtual ? "virtual" : "platform",
+                    stallMillis, duration.toSeconds(), Runtime.version().feature());
+            for (Endpoint endpoint : endpoints) {
+                run(client, endpoint, levels[0], Duration.ofSeconds(2));
+            }
+            System.out.printf("%-22s %6s %9s %9s %9s %9s %8s%n",
+                    "endpoint", "conc", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+            for (Endpoint endpoint : endpoints) {
+                int sustained = 0;
+                for (int level : levels) {
+                    Result result = run(client, endpoint, level, duration);
+                    System.out.printf("%-22s %6d %9.0f %9.1f %9.1f %9.1f %7.2f%%%n", endpoint.name, level,
+                            result.throughput(duration), result.percentile(50), result.percentile(99),
+                            result.percentile(100), result.errorRate() * 100);
+                    if (result.errorRate() < 0.01 && result.percentile(99) <= sloMillis) {
+                        sustained = level;
+                    }
+                }
+                System.out.printf("%-22s max concurrency within SLO: %d%n", endpoint.name, sustained);
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private static List<Endpoint> endpoints(ConfigurableApplicationContext context, String baseUrl) {
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+        CustomUserDetailsService userDetailsService = context.getBean(CustomUserDetailsService.class);
+        String user = "Bearer " + jwtUtil.generateToken(userDetailsService.loadUserByUsername("john"));
+        String admin = "Bearer " + jwtUtil.generateToken(userDetailsService.loadUserByUsername("admin"));
+        Long approvedId = context.getBean(PostRepository.class)
+                .findPageByStatus(PostStatus.APPROVED, CursorPagination.limit(1)).get(0).getId();
+
+        return List.of(
+                new Endpoint("GET /posts/{id}", get(baseUrl + "/api/posts/" + approvedId, user)),
+                new Endpoint("GET /posts/approved", get(baseUrl + "/api/posts/approved", user)),
+                new Endpoint("GET /posts/user/posts", get(baseUrl + "/api/posts/user/posts", user)),
+                new Endpoint("GET /posts (admin)", get(baseUrl + "/api/posts", admin)),
+                new Endpoint("POST /posts", HttpRequest.newBuilder(URI.create(baseUrl + "/api/posts"))
+                        .timeout(REQUEST_TIMEOUT)
+                        .header("Authorization", user)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(CREATE_POST_BODY))
+                        .build()));
+    }
+
+    private static HttpRequest get(String url, String bearer) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", bearer)
+                .GET()
+                .build();
+    }
+
+    private static Result run(HttpClient client, Endpoint endpoint, int concurrency, Duration duration)
+            throws InterruptedException {
+        Result result = new Result();
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            next(client, endpoint.request, deadline, result, done);
+        }
+        done.await();
+        return result;
+    }
+
+    private static void next(HttpClient client, HttpRequest request, long deadline, Result result,
+                             CountDownLatch done) {
+        if (System.nanoTime() >= deadline) {
+            done.countDown();
+            return;
+        }
+        long started = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, ex) -> {
+                    result.record(System.nanoTime() - started, ex == null && response.statusCode() < 400);
+                    next(client, request, deadline, result, done);
+                });
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.replaceFirst("^--", "");
+            int separator = option.indexOf('=');
+            if (separator < 0) {
+                options.put(option, "true");
+            } else {
+                options.put(option.substring(0, separator), option.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    private record Endpoint(String name, HttpRequest request) {
+    }
+
+    private static final class Result {
+
+        private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger errors = new AtomicInteger();
+
+        void record(long nanos, boolean success) {
+            latencies.add(nanos);
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+
+        double throughput(Duration duration) {
+            return latencies.size() / (double) duration.toSeconds();
+        }
+
+        double errorRate() {
+            return latencies.isEmpty() ? 1 : errors.get() / (double) latencies.size();
+        }
+
+        double percentile(int percentile) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            if (sorted.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
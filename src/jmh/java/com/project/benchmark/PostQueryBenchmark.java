@@ -0,0 +1,174 @@
+package com.project.benchmark;
+
+import com.project.dto.comment.CommentResponse;
+import com.project.dto.post.PostResponse;
+import com.project.enums.PostStatus;
+import com.project.repository.CommentRepository;
+import com.project.repository.PostRepository;
+import com.project.util.pagination.CursorPagination;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feed, per-user and comment list queries against a large seeded table, with and
+ * without the secondary indexes declared on {@code Post} and {@code Comment}. The
+ * query plans for both variants are printed during setup.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="PostQueryBenchmark -p rows=100000"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PostQueryBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int BATCH_SIZE = 5_000;
+    private static final PostStatus[] STATUSES = PostStatus.values();
+
+    private static final String[] INDEXES = {
+            "idx_posts_status_created_at",
+            "idx_posts_created_by_created_at",
+            "idx_posts_created_at",
+            "idx_comments_post_created_at"
+    };
+
+    private static final String FEED_SQL =
+            "SELECT p.id, p.title, p.description, p.type, p.status, u.username, p.assigned_update, " +
+            "p.created_at, p.updated_at FROM posts p JOIN users u ON u.id = p.created_by " +
+            "WHERE p.status = 'APPROVED' ORDER BY p.created_at DESC, p.id DESC LIMIT 21";
+
+    private static final String COMMENTS_SQL =
+            "SELECT c.id, c.text, c.post_id, u.username, c.created_at FROM comments c " +
+            "JOIN users u ON u.id = c.created_by WHERE c.post_id = %d ORDER BY c.created_at DESC, c.id DESC LIMIT 21";
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"true", "false"})
+    public boolean indexed;
+
+    private ConfigurableApplicationContext context;
+    private PostRepository postRepository;
+    private CommentRepository commentRepository;
+    private Long authorId;
+    private Long commentedPostId;
+    private LocalDateTime deepCreatedAt;
+    private Long deepId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        postRepository = context.getBean(PostRepository.class);
+        commentRepository = context.getBean(CommentRepository.class);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+
+        List<Long> userIds = jdbc.queryForList("SELECT id FROM users ORDER BY id", Long.class);
+        authorId = userIds.get(0);
+        // Explicit ids past the application's rows; the schema's id generator is not involved.
+        long firstPostId = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) + 1000 FROM posts", Long.class);
+        long firstCommentId = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) + 1000 FROM comments", Long.class);
+        seedPosts(jdbc, userIds, firstPostId);
+        seedComments(jdbc, userIds, firstPostId, firstCommentId);
+        commentedPostId = firstPostId;
+
+        if (!indexed) {
+            for (String index : INDEXES) {
+                jdbc.execute("DROP INDEX " + index);
+            }
+        }
+        jdbc.execute("ANALYZE");
+
+        System.out.println("\n[indexed=" + indexed + ", rows=" + rows + "]");
+        System.out.println(jdbc.queryForObject("EXPLAIN " + FEED_SQL, String.class));
+        System.out.println(jdbc.queryForObject("EXPLAIN " + COMMENTS_SQL.formatted(commentedPostId), String.class));
+
+        // A cursor near the oldest end of the approved feed, as reached after deep scrolling.
+        jdbc.query("SELECT created_at, id FROM posts WHERE status = 'APPROVED' " +
+                        "ORDER BY created_at, id LIMIT 1 OFFSET " + rows / STATUSES.length / 10,
+                rs -> {
+                    deepCreatedAt = rs.getTimestamp(1).toLocalDateTime();
+                    deepId = rs.getLong(2);
+                });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PostResponse> approvedFeedFirstPage() {
+        return postRepository.findPageByStatus(PostStatus.APPROVED, CursorPagination.limit(PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<PostResponse> approvedFeedDeepPage() {
+        return postRepository.findPageByStatusAfter(PostStatus.APPROVED, deepCreatedAt, deepId,
+                CursorPagination.limit(PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<PostResponse> postsByUserFirstPage() {
+        return postRepository.findPageByCreatedBy(authorId, CursorPagination.limit(PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<PostResponse> allPostsFirstPage() {
+        return postRepository.findPage(CursorPagination.limit(PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentsForPost() {
+        return commentRepository.findPageByPost(commentedPostId, CursorPagination.limit(PAGE_SIZE));
+    }
+
+    private void seedPosts(JdbcTemplate jdbc, List<Long> userIds, long firstId) {
+        LocalDateTime start = LocalDateTime.now().minusMinutes(rows);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            Timestamp createdAt = Timestamp.valueOf(start.plusMinutes(i));
+            batch.add(new Object[]{firstId + i, "Post " + i, "Seeded by PostQueryBenchmark", "ISSUE",
+                    STATUSES[i % STATUSES.length].name(), userIds.get(i % userIds.size()), createdAt, createdAt});
+            if (batch.size() == BATCH_SIZE || i == rows - 1) {
+                jdbc.batchUpdate("INSERT INTO posts (id, title, description, type, status, created_by, created_at, " +
+                        "updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void seedComments(JdbcTemplate jdbc, List<Long> userIds, long firstPostId, long firstId) {
+        int comments = rows / 10;
+        LocalDateTime start = LocalDateTime.now().minusMinutes(comments);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < comments; i++) {
+            // Every thousandth post gets a thread of about a hundred comments.
+            long postId = firstPostId + (long) (i % Math.max(1, rows / 1000)) * 1000;
+            batch.add(new Object[]{firstId + i, "Comment " + i, postId, userIds.get(i % userIds.size()),
+                    Timestamp.valueOf(start.plusMinutes(i))});
+            if (batch.size() == BATCH_SIZE || i == comments - 1) {
+                jdbc.batchUpdate("INSERT INTO comments (id, text, post_id, created_by, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+}
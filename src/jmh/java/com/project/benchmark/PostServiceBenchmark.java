@@ -0,0 +1,99 @@
+package com.project.benchmark;
+
+import com.project.config.CustomUserDetails;
+import com.project.config.CustomUserDetailsService;
+import com.project.dto.comment.CommentRequest;
+import com.project.dto.comment.CommentResponse;
+import com.project.dto.common.CursorPageResponse;
+import com.project.dto.post.PostRequest;
+import com.project.dto.post.PostResponse;
+import com.project.enums.PostType;
+import com.project.service.CommentService;
+import com.project.service.PostService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service-layer hot paths: single-post reads and the approved feed (projection and
+ * {@code convertToResponse} mapping), a full DRAFT to CLOSED status workflow, and
+ * comment creation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PostServiceBenchmark {
+
+    private static final int SEED_POSTS = 200;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private CommentService commentService;
+    private CustomUserDetails owner;
+    private CustomUserDetails admin;
+    private PostRequest postRequest;
+    private CommentRequest commentRequest;
+    private Long approvedPostId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        postService = context.getBean(PostService.class);
+        commentService = context.getBean(CommentService.class);
+
+        CustomUserDetailsService userDetailsService = context.getBean(CustomUserDetailsService.class);
+        owner = (CustomUserDetails) userDetailsService.loadUserByUsername("john");
+        admin = (CustomUserDetails) userDetailsService.loadUserByUsername("admin");
+
+        postRequest = new PostRequest("Benchmark post", "Created by PostServiceBenchmark", PostType.ISSUE);
+        commentRequest = new CommentRequest("Benchmark comment");
+
+        for (int i = 0; i < SEED_POSTS; i++) {
+            PostResponse post = postService.createPost(postRequest, owner);
+            postService.submitPost(post.getId(), owner);
+            approvedPostId = postService.approvePost(post.getId()).getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PostResponse getPostById() {
+        return postService.getPostById(approvedPostId, owner);
+    }
+
+    @Benchmark
+    public CursorPageResponse<PostResponse> approvedFeedPage() {
+        return postService.getApprovedPosts(null, 20);
+    }
+
+    @Benchmark
+    public CursorPageResponse<PostResponse> allPostsPageAsAdmin() {
+        return postService.getAllPosts(null, 20);
+    }
+
+    @Benchmark
+    public PostResponse statusWorkflow() {
+        PostResponse post = postService.createPost(postRequest, owner);
+        postService.submitPost(post.getId(), owner);
+        postService.approvePost(post.getId());
+        return postService.closePost(post.getId());
+    }
+
+    @Benchmark
+    public CommentResponse addComment() {
+        return commentService.addComment(approvedPostId, commentRequest, admin);
+    }
+}
@@ -0,0 +1,135 @@
+package com.project.benchmark;
+
+import com.project.config.CustomUserDetails;
+import com.project.config.CustomUserDetailsService;
+import com.project.dto.post.PostRequest;
+import com.project.dto.post.PostResponse;
+import com.project.enums.PostStatus;
+import com.project.enums.PostType;
+import com.project.exception.ConflictException;
+import com.project.exception.InvalidOperationException;
+import com.project.repository.PostRepository;
+import com.project.service.PostService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Stress check for concurrent moderation: several admins race to approve or reject the
+ * same pending posts. Each invocation fails unless every post was moved exactly once and
+ * its stored status matches the single winning transition; the score is the time to
+ * settle one round.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@State(Scope.Benchmark)
+public class PostTransitionContentionBenchmark {
+
+    private static final int POSTS = 200;
+    private static final int MODERATORS = 8;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private PostRepository postRepository;
+    private CustomUserDetails owner;
+    private ExecutorService executor;
+    private List<Long> pendingIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        postService = context.getBean(PostService.class);
+        postRepository = context.getBean(PostRepository.class);
+        owner = (CustomUserDetails) context.getBean(CustomUserDetailsService.class).loadUserByUsername("john");
+        executor = Executors.newFixedThreadPool(MODERATORS);
+    }
+
+    @Setup(Level.Invocation)
+    public void createPendingPosts() {
+        PostRequest request = new PostRequest("Contended post", "Moderated concurrently", PostType.ISSUE);
+        pendingIds = new ArrayList<>(POSTS);
+        for (int i = 0; i < POSTS; i++) {
+            Long id = postService.createPost(request, owner).getId();
+            postService.submitPost(id, owner);
+            pendingIds.add(id);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public int raceApproveAndReject() throws Exception {
+        AtomicIntegerArray wins = new AtomicIntegerArray(POSTS);
+        AtomicReferenceArray<PostStatus> winners = new AtomicReferenceArray<>(POSTS);
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> moderators = new ArrayList<>(MODERATORS);
+        for (int m = 0; m < MODERATORS; m++) {
+            PostStatus target = m % 2 == 0 ? PostStatus.APPROVED : PostStatus.REJECTED;
+            moderators.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < POSTS; i++) {
+                    try {
+                        if (target == PostStatus.APPROVED) {
+                            postService.approvePost(pendingIds.get(i));
+                        } else {
+                            postService.rejectPost(pendingIds.get(i));
+                        }
+                        wins.incrementAndGet(i);
+                        winners.set(i, target);
+                    } catch (ConflictException | InvalidOperationException ex) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> moderator : moderators) {
+            moderator.get();
+        }
+
+        for (int i = 0; i < POSTS; i++) {
+            if (wins.get(i) != 1) {
+                throw new IllegalStateException("Post " + pendingIds.get(i) + " was moved " + wins.get(i) + " times");
+            }
+            PostResponse stored = postRepository.findResponseById(pendingIds.get(i)).orElseThrow();
+            if (stored.getStatus() != winners.get(i)) {
+                throw new IllegalStateException("Post " + pendingIds.get(i) + " is " + stored.getStatus()
+                        + " but the winning transition was " + winners.get(i));
+            }
+        }
+        if (conflicts.get() != POSTS * (MODERATORS - 1)) {
+            throw new IllegalStateException("Expected " + POSTS * (MODERATORS - 1) + " rejected attempts but saw "
+                    + conflicts.get());
+        }
+        return conflicts.get();
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.benchmark;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delays every SQL statement Hibernate prepares by {@code loadtest.stall-ms} milliseconds,
+ * standing in for a database under load so request threads spend their time blocked on I/O.
+ */
+public class SlowStatementInspector implements StatementInspector {
+
+    private final long stallMillis = Long.getLong("loadtest.stall-ms", 0);
+
+    @Override
+    public String inspect(String sql) {
+        if (stallMillis > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(stallMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return sql;
+    }
+}
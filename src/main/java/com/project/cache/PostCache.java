@@ -0,0 +1,56 @@
+package com.project.cache;
+
+import com.project.config.CacheConfig;
+import com.project.dto.common.CursorPageResponse;
+import com.project.dto.post.PostResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Read-through cache for single posts and pages of the approved feed. Evictions made
+ * inside a transaction are deferred until it commits, so a concurrent reader cannot
+ * repopulate an entry with the pre-commit state.
+ */
+@Component
+public class PostCache {
+
+    private final Cache posts;
+    private final Cache approvedFeed;
+
+    public PostCache(CacheManager cacheManager) {
+        this.posts = new TransactionAwareCacheDecorator(cacheManager.getCache(CacheConfig.POSTS));
+        this.approvedFeed = new TransactionAwareCacheDecorator(cacheManager.getCache(CacheConfig.APPROVED_FEED));
+    }
+
+    public PostResponse getPost(Long postId, Callable<PostResponse> loader) {
+        return get(posts, postId, loader);
+    }
+
+    public CursorPageResponse<PostResponse> getApprovedFeedPage(String cursor, int size,
+                                                                Callable<CursorPageResponse<PostResponse>> loader) {
+        return get(approvedFeed, (cursor == null ? "" : cursor) + ":" + size, loader);
+    }
+
+    public void evictPost(Long postId) {
+        posts.evict(postId);
+    }
+
+    public void evictApprovedFeed() {
+        approvedFeed.clear();
+    }
+
+    private static <T> T get(Cache cache, Object key, Callable<T> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (Cache.ValueRetrievalException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
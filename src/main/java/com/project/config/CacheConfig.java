@@ -0,0 +1,36 @@
+package com.project.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PRINCIPALS = "principals";
+    public static final String POSTS = "posts";
+    public static final String APPROVED_FEED = "approvedFeed";
+
+    @Value("${app.cache.principals.spec}")
+    private String principalsSpec;
+
+    @Value("${app.cache.posts.spec}")
+    private String postsSpec;
+
+    @Value("${app.cache.approved-feed.spec}")
+    private String approvedFeedSpec;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(PRINCIPALS, Caffeine.from(principalsSpec).build());
+        cacheManager.registerCustomCache(POSTS, Caffeine.from(postsSpec).build());
+        cacheManager.registerCustomCache(APPROVED_FEED, Caffeine.from(approvedFeedSpec).build());
+        return cacheManager;
+    }
+}
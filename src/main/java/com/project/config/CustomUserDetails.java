@@ -1,34 +1,52 @@
 package com.project.config;
 
+import com.project.entity.Role;
 import com.project.entity.User;
-import lombok.AllArgsConstructor;
+import com.project.enums.RoleType;
+import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-@AllArgsConstructor
+/**
+ * Immutable snapshot of the authenticated user. It is cached across requests, so it
+ * holds plain values rather than the {@link User} entity and its lazy associations.
+ */
+@Getter
 public class CustomUserDetails implements UserDetails {
 
-    private User user;
+    private final Long id;
+    private final String username;
+    private final String password;
+    private final String email;
+    private final Set<RoleType> roles;
+    private final List<GrantedAuthority> authorities;
 
-    @Override
-    public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getName().name()))
-                .collect(Collectors.toList());
+    public CustomUserDetails(User user) {
+        this.id = user.getId();
+        this.username = user.getUsername();
+        this.password = user.getPassword();
+        this.email = user.getEmail();
+        this.roles = user.getRoles().stream()
+                .map(Role::getName)
+                .collect(Collectors.toUnmodifiableSet());
+        this.authorities = roles.stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
+                .collect(Collectors.toUnmodifiableList());
     }
 
-    @Override
-    public String getPassword() {
-        return user.getPassword();
+    public boolean isAdmin() {
+        return roles.contains(RoleType.ADMIN);
     }
 
     @Override
-    public String getUsername() {
-        return user.getUsername();
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
     }
 
     @Override
@@ -50,8 +68,4 @@ public class CustomUserDetails implements UserDetails {
     public boolean isEnabled() {
         return true;
     }
-
-    public User getUser() {
-        return user;
-    }
 }
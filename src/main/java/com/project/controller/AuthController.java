@@ -1,9 +1,12 @@
 package com.project.controller;
 
+import com.project.config.CustomUserDetails;
+import com.project.dto.auth.AuthResponse;
 import com.project.dto.auth.LoginRequest;
 import com.project.dto.auth.RegisterRequest;
 import com.project.dto.auth.UserResponse;
 import com.project.service.UserService;
+import com.project.util.jwt.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -23,6 +26,7 @@ public class AuthController {
 
     private final UserService userService;
     private final AuthenticationManager authenticationManager;
+    private final JwtUtil jwtUtil;
 
     @PostMapping("/register")
     @Operation(summary = "Register a new user")
@@ -32,8 +36,8 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    @Operation(summary = "Login user")
-    public ResponseEntity<UserResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
+    @Operation(summary = "Login and obtain a bearer token")
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         loginRequest.getUsername(),
@@ -41,16 +45,15 @@ public class AuthController {
                 )
         );
 
-        var user = userService.findByUsername(loginRequest.getUsername());
+        CustomUserDetails user = (CustomUserDetails) authentication.getPrincipal();
 
         UserResponse response = new UserResponse();
         response.setId(user.getId());
         response.setUsername(user.getUsername());
         response.setEmail(user.getEmail());
-        response.setRoles(user.getRoles().stream()
-                .map(role -> role.getName())
-                .collect(java.util.stream.Collectors.toSet()));
+        response.setRoles(user.getRoles());
 
-        return ResponseEntity.ok(response);
+        String token = jwtUtil.generateToken(user);
+        return ResponseEntity.ok(new AuthResponse(token, "Bearer", jwtUtil.getExpiration() / 1000, response));
     }
 }
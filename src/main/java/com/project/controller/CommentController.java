@@ -1,45 +1,82 @@
 package com.project.controller;
 
+import com.project.config.CustomUserDetails;
+import com.project.dto.comment.CommentCountResponse;
 import com.project.dto.comment.CommentRequest;
 import com.project.dto.comment.CommentResponse;
+import com.project.dto.common.CursorPageResponse;
 import com.project.service.CommentService;
+import com.project.util.http.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/posts")
-@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
 @SecurityRequirement(name = "basicAuth")
 @Tag(name = "Comments", description = "Comment management endpoints")
 public class CommentController {
 
     private final CommentService commentService;
+    private final boolean writeBehind;
+
+    public CommentController(CommentService commentService,
+                             @Value("${app.comments.write-behind.enabled:false}") boolean writeBehind) {
+        this.commentService = commentService;
+        this.writeBehind = writeBehind;
+    }
 
     @PostMapping("/{postId}/comments")
-    @Operation(summary = "Add a comment to a post")
+    @Operation(summary = "Add a comment to a post",
+            description = "Returns 202 instead of 201 when comments are written behind; the comment is then "
+                    + "readable once the queue has been flushed")
     public ResponseEntity<CommentResponse> addComment(
             @PathVariable Long postId,
             @Valid @RequestBody CommentRequest commentRequest,
-            Authentication authentication) {
-        CommentResponse response = commentService.addComment(postId, commentRequest, authentication.getName());
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        if (writeBehind) {
+            return new ResponseEntity<>(commentService.acceptComment(postId, commentRequest, currentUser),
+                    HttpStatus.ACCEPTED);
+        }
+        CommentResponse response = commentService.addComment(postId, commentRequest, currentUser);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
     @GetMapping("/{postId}/comments")
-    @Operation(summary = "Get all comments for a post")
-    public ResponseEntity<List<CommentResponse>> getCommentsByPostId(
+    @Operation(summary = "Get comments for a post, newest first")
+    public ResponseEntity<CursorPageResponse<CommentResponse>> getCommentsByPostId(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails currentUser,
+            WebRequest request) {
+        // Checked against the cached comment count before any comment rows are read.
+        String eTag = ETags.forComments(commentService.getCommentCount(postId, currentUser));
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(ETags.REVALIDATE).build();
+        }
+        CursorPageResponse<CommentResponse> responses =
+                commentService.getCommentsByPostId(postId, currentUser, cursor, size);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(ETags.REVALIDATE)
+                .body(responses);
+    }
+
+    @GetMapping("/{postId}/comments/count")
+    @Operation(summary = "Get the number of comments on a post")
+    public ResponseEntity<CommentCountResponse> getCommentCount(
             @PathVariable Long postId,
-            Authentication authentication) {
-        List<CommentResponse> responses = commentService.getCommentsByPostId(postId, authentication.getName());
-        return ResponseEntity.ok(responses);
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        CommentCountResponse response = commentService.getCommentCount(postId, currentUser);
+        return ResponseEntity.ok(response);
     }
 }
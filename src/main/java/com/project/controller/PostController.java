@@ -1,37 +1,56 @@
 package com.project.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.config.CustomUserDetails;
+import com.project.dto.common.CursorPageResponse;
+import com.project.dto.post.BulkModerationRequest;
+import com.project.dto.post.BulkModerationResponse;
 import com.project.dto.post.PostRequest;
 import com.project.dto.post.PostResponse;
+import com.project.dto.post.PostSearchResponse;
+import com.project.dto.post.PostStatsResponse;
 import com.project.dto.post.PostUpdateRequest;
+import com.project.enums.PostStatus;
+import com.project.enums.PostType;
+import com.project.notification.PostEventBroadcaster;
 import com.project.service.PostService;
+import com.project.util.http.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
 @SecurityRequirement(name = "basicAuth")
 @Tag(name = "Posts", description = "Post management endpoints")
 public class PostController {
 
     private final PostService postService;
+    private final PostEventBroadcaster postEventBroadcaster;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "Create a new post")
     public ResponseEntity<PostResponse> createPost(
             @Valid @RequestBody PostRequest postRequest,
-            Authentication authentication) {
-        PostResponse response = postService.createPost(postRequest, authentication.getName());
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        PostResponse response = postService.createPost(postRequest, currentUser);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
@@ -39,8 +58,8 @@ public class PostController {
     @Operation(summary = "Submit post for approval")
     public ResponseEntity<PostResponse> submitPost(
             @PathVariable Long id,
-            Authentication authentication) {
-        PostResponse response = postService.submitPost(id, authentication.getName());
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        PostResponse response = postService.submitPost(id, currentUser);
         return ResponseEntity.ok(response);
     }
 
@@ -68,6 +87,15 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    @PutMapping("/moderation")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Approve, reject or close many posts at once (Admin only)")
+    public ResponseEntity<BulkModerationResponse> moderatePosts(
+            @Valid @RequestBody BulkModerationRequest request) {
+        BulkModerationResponse response = postService.moderatePosts(request);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}/assign-update")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Assign update notes to a post (Admin only)")
@@ -78,34 +106,113 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Search posts and their comments by text, ranked by relevance")
+    public ResponseEntity<PostSearchResponse> searchPosts(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) PostType type,
+            @RequestParam(required = false) PostStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        PostSearchResponse response = postService.searchPosts(query, type, status, page, size, currentUser);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Post counts by status, type and top authors (Admin only)")
+    public ResponseEntity<PostStatsResponse> getPostStats(@RequestParam(defaultValue = "10") int authors) {
+        PostStatsResponse response = postService.getPostStats(authors);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream post status changes and new comments visible to the current user")
+    public SseEmitter streamEvents(
+            @RequestParam(required = false) Long postId,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        return postEventBroadcaster.subscribe(currentUser, postId);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get post by ID")
     public ResponseEntity<PostResponse> getPostById(
             @PathVariable Long id,
-            Authentication authentication) {
-        PostResponse response = postService.getPostById(id, authentication.getName());
-        return ResponseEntity.ok(response);
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        PostResponse response = postService.getPostById(id, currentUser);
+        // A matching If-None-Match turns this into a 304 without a body.
+        return ResponseEntity.ok()
+                .eTag(ETags.forPost(response))
+                .cacheControl(ETags.REVALIDATE)
+                .body(response);
     }
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Get all posts (Admin only)")
-    public ResponseEntity<List<PostResponse>> getAllPosts() {
-        List<PostResponse> responses = postService.getAllPosts();
+    public ResponseEntity<CursorPageResponse<PostResponse>> getAllPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<PostResponse> responses = postService.getAllPosts(cursor, size);
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream all posts as NDJSON (Admin only)")
+    public ResponseEntity<StreamingResponseBody> streamAllPosts() {
+        return ndjson(postService::streamAllPosts);
+    }
+
     @GetMapping("/approved")
     @Operation(summary = "Get all approved posts")
-    public ResponseEntity<List<PostResponse>> getApprovedPosts() {
-        List<PostResponse> responses = postService.getApprovedPosts();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<CursorPageResponse<PostResponse>> getApprovedPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<PostResponse> responses = postService.getApprovedPosts(cursor, size);
+        return ResponseEntity.ok()
+                .eTag(ETags.forPostPage(responses))
+                .cacheControl(ETags.REVALIDATE)
+                .body(responses);
+    }
+
+    @GetMapping(value = "/approved", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all approved posts as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamApprovedPosts() {
+        return ndjson(postService::streamApprovedPosts);
     }
 
     @GetMapping("/user/posts")
     @Operation(summary = "Get posts by current user")
-    public ResponseEntity<List<PostResponse>> getUserPosts(Authentication authentication) {
-        List<PostResponse> responses = postService.getPostsByUser(authentication.getName());
+    public ResponseEntity<CursorPageResponse<PostResponse>> getUserPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        CursorPageResponse<PostResponse> responses = postService.getPostsByUser(currentUser, cursor, size);
         return ResponseEntity.ok(responses);
     }
+
+    @GetMapping(value = "/user/posts", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream posts by current user as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamUserPosts(@AuthenticationPrincipal CustomUserDetails currentUser) {
+        return ndjson(consumer -> postService.streamPostsByUser(currentUser, consumer));
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(Consumer<Consumer<PostResponse>> source) {
+        StreamingResponseBody body = outputStream -> {
+            source.accept(post -> {
+                try {
+                    outputStream.write(objectMapper.writeValueAsBytes(post));
+                    outputStream.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            outputStream.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
 }
@@ -0,0 +1,16 @@
+package com.project.dto.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthResponse {
+
+    private String accessToken;
+    private String tokenType;
+    private long expiresIn;
+    private UserResponse user;
+}
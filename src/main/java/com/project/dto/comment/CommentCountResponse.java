@@ -0,0 +1,14 @@
+package com.project.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentCountResponse {
+
+    private Long postId;
+    private long count;
+}
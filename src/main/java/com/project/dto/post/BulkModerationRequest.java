@@ -0,0 +1,26 @@
+package com.project.dto.post;
+
+import com.project.enums.PostStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkModerationRequest {
+
+    public static final int MAX_IDS = 1000;
+
+    @NotEmpty(message = "At least one post id is required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " posts can be moderated per request")
+    private List<@NotNull Long> ids;
+
+    @NotNull(message = "Target status is required")
+    private PostStatus targetStatus;
+}
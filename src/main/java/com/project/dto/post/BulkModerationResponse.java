@@ -0,0 +1,18 @@
+package com.project.dto.post;
+
+import com.project.enums.PostStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkModerationResponse {
+
+    private PostStatus targetStatus;
+    private int updatedCount;
+    private List<BulkModerationResult> results;
+}
@@ -0,0 +1,16 @@
+package com.project.dto.post;
+
+import com.project.enums.ModerationOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkModerationResult {
+
+    private Long id;
+    private ModerationOutcome outcome;
+    private String message;
+}
@@ -22,4 +22,5 @@ public class PostResponse {
     private String assignedUpdate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long commentCount;
 }
@@ -0,0 +1,18 @@
+package com.project.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSearchResponse {
+
+    private List<PostResponse> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
@@ -0,0 +1,20 @@
+package com.project.dto.post;
+
+import com.project.enums.PostStatus;
+import com.project.enums.PostType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostStatsResponse {
+
+    private long total;
+    private Map<PostStatus, Long> byStatus;
+    private Map<PostType, Long> byType;
+    private Map<String, Long> topAuthors;
+}
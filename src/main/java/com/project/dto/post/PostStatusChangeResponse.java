@@ -0,0 +1,19 @@
+package com.project.dto.post;
+
+import com.project.enums.PostStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostStatusChangeResponse {
+
+    private Long postId;
+    private PostStatus previousStatus;
+    private PostStatus status;
+    private LocalDateTime updatedAt;
+}
@@ -1,22 +1,31 @@
 package com.project.entity;
 
+import com.project.entity.id.PooledId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
-@Data
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_post_created_at", columnList = "post_id, created_at, id")
+})
+@Getter
+@Setter
+@ToString(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("comments")
+    @ToString.Include
     private Long id;
 
     @Column(columnDefinition = "TEXT", nullable = false)
@@ -32,5 +41,22 @@ public class Comment {
 
     @CreationTimestamp
     @Column(updatable = false)
+    @ToString.Include
     private LocalDateTime createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        return id != null && id.equals(((Comment) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Hibernate.getClassLazy(this).hashCode();
+    }
 }
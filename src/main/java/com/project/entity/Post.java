@@ -1,11 +1,15 @@
 package com.project.entity;
 
+import com.project.entity.id.PooledId;
 import com.project.enums.PostStatus;
 import com.project.enums.PostType;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,17 +18,25 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "posts")
-@Data
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_status_created_at", columnList = "status, created_at, id"),
+        @Index(name = "idx_posts_created_by_created_at", columnList = "created_by, created_at, id"),
+        @Index(name = "idx_posts_created_at", columnList = "created_at, id")
+})
+@Getter
+@Setter
+@ToString(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Post {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("posts")
+    @ToString.Include
     private Long id;
 
     @Column(nullable = false)
+    @ToString.Include
     private String title;
 
     @Column(columnDefinition = "TEXT")
@@ -32,10 +44,12 @@ public class Post {
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
+    @ToString.Include
     private PostType type;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
+    @ToString.Include
     private PostStatus status = PostStatus.DRAFT;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -52,6 +66,31 @@ public class Post {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
+    // Maintained by PostRepository.incrementCommentCount only, never by entity updates.
+    @Column(nullable = false, updatable = false)
+    private long commentCount;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Comment> comments = new HashSet<>();
+
+    // Identity is the id alone and the hash is per class, so a post keeps its bucket across persist
+    // and comparing it, or a lazy proxy of it, never touches an association.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        return id != null && id.equals(((Post) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Hibernate.getClassLazy(this).hashCode();
+    }
 }
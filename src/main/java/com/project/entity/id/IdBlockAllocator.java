@@ -0,0 +1,141 @@
+package com.project.entity.id;
+
+import com.project.metrics.CountingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out entity ids in blocks of {@link #BLOCK_SIZE} from the {@code id_generators}
+ * table, with the same layout as Hibernate's pooled table optimizer: a stored value N
+ * means ids up to N - {@link #BLOCK_SIZE} may be in use.
+ *
+ * <p>Blocks are fetched on a small connection pool of their own. Hibernate's table
+ * generator borrows a second connection from the main pool while the inserting
+ * transaction holds the first, which deadlocks once every main-pool connection belongs
+ * to a transaction waiting for the next block.
+ */
+@Component
+public class IdBlockAllocator implements DisposableBean {
+
+    public static final int BLOCK_SIZE = 50;
+
+    private final HikariDataSource pool;
+    private final DataSource dataSource;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public IdBlockAllocator(DataSourceProperties properties,
+                            @Value("${app.id-allocator.pool-size:2}") int poolSize,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("IdAllocatorPool");
+        pool.setMaximumPoolSize(poolSize);
+        pool.setMinimumIdle(1);
+        // Not a bean, so the hikaricp.* pool metrics and statement counting have to be wired here.
+        meterRegistry.ifAvailable(pool::setMetricRegistry);
+        this.dataSource = new CountingDataSource(pool);
+    }
+
+    public long next(String sequenceName) {
+        return blocks.computeIfAbsent(sequenceName, Block::new).next();
+    }
+
+    /**
+     * Reserves {@code count} consecutive ids for rows written outside Hibernate and returns
+     * the first one.
+     */
+    public long reserve(String sequenceName, int count) {
+        return advance(sequenceName, count) - BLOCK_SIZE + 1;
+    }
+
+    /**
+     * Moves the stored value forward by {@code increment} in its own short transaction and
+     * returns the value it held before.
+     */
+    private long advance(String sequenceName, int increment) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement select = connection.prepareStatement(
+                         "SELECT next_val FROM id_generators WHERE sequence_name = ? FOR UPDATE");
+                 PreparedStatement update = connection.prepareStatement(
+                         "UPDATE id_generators SET next_val = ? WHERE sequence_name = ?")) {
+                select.setString(1, sequenceName);
+                long value;
+                try (ResultSet resultSet = select.executeQuery()) {
+                    if (!resultSet.next()) {
+                        throw new IllegalStateException("No id_generators row for " + sequenceName);
+                    }
+                    value = resultSet.getLong(1);
+                }
+                update.setLong(1, value + increment);
+                update.setString(2, sequenceName);
+                update.executeUpdate();
+                connection.commit();
+                return value;
+            } catch (SQLException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        } catch (SQLException ex) {
+            throw new DataAccessResourceFailureException("Could not allocate ids for " + sequenceName, ex);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        pool.close();
+    }
+
+    private final class Block {
+
+        private final String sequenceName;
+        private final Lock lock = new ReentrantLock();
+        private long nextId = 1;
+        private long lastId = 0;
+
+        private Block(String sequenceName) {
+            this.sequenceName = sequenceName;
+        }
+
+        private long next() {
+            lock.lock();
+            try {
+                if (nextId > lastId) {
+                    lastId = advance(sequenceName, BLOCK_SIZE);
+                    nextId = lastId - BLOCK_SIZE + 1;
+                }
+                return nextId++;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Creates the allocator before the entity manager factory so no insert can run first.
+     */
+    @Component
+    static class EntityManagerFactoryDependency extends EntityManagerFactoryDependsOnPostProcessor {
+
+        EntityManagerFactoryDependency() {
+            super(IdBlockAllocator.class);
+        }
+    }
+}
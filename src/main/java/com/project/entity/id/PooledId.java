@@ -0,0 +1,23 @@
+package com.project.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an id drawn in blocks from a row of the {@code id_generators} table by
+ * {@link IdBlockAllocator}.
+ */
+@IdGeneratorType(PooledIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledId {
+
+    /**
+     * The {@code sequence_name} of the row to allocate from.
+     */
+    String value();
+}
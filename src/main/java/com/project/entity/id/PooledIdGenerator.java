@@ -0,0 +1,55 @@
+package com.project.entity.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.resource.beans.container.spi.BeanContainer;
+import org.hibernate.resource.beans.internal.FallbackBeanInstanceProducer;
+import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
+
+import java.lang.reflect.Member;
+
+public class PooledIdGenerator implements IdentifierGenerator {
+
+    // Looks up the container's own instance; JPA-compliant creation would build a second allocator.
+    private static final BeanContainer.LifecycleOptions SHARED_BEAN = new BeanContainer.LifecycleOptions() {
+
+        @Override
+        public boolean canUseCachedReferences() {
+            return true;
+        }
+
+        @Override
+        public boolean useJpaCompliantCreation() {
+            return false;
+        }
+    };
+
+    private final String sequenceName;
+    private final IdBlockAllocator allocator;
+
+    public PooledIdGenerator(PooledId config, Member member, CustomIdGeneratorCreationContext context) {
+        this.sequenceName = config.value();
+        this.allocator = allocator(context);
+    }
+
+    /**
+     * The allocator of the application context building this session factory, found through
+     * the bean container Spring Boot registers with Hibernate.
+     */
+    private static IdBlockAllocator allocator(CustomIdGeneratorCreationContext context) {
+        BeanContainer beanContainer = context.getServiceRegistry()
+                .requireService(ManagedBeanRegistry.class)
+                .getBeanContainer();
+        if (beanContainer == null) {
+            throw new IllegalStateException("@PooledId needs a bean container providing an IdBlockAllocator");
+        }
+        return beanContainer.getBean(IdBlockAllocator.class, SHARED_BEAN, FallbackBeanInstanceProducer.INSTANCE)
+                .getBeanInstance();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return allocator.next(sequenceName);
+    }
+}
@@ -0,0 +1,7 @@
+package com.project.enums;
+
+public enum ModerationOutcome {
+    UPDATED,
+    NOT_FOUND,
+    INVALID_TRANSITION
+}
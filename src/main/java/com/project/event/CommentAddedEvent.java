@@ -0,0 +1,21 @@
+package com.project.event;
+
+import com.project.dto.comment.CommentResponse;
+import com.project.enums.PostStatus;
+import lombok.Getter;
+
+@Getter
+public class CommentAddedEvent extends PostChangedEvent {
+
+    private final String postCreatedByUsername;
+    private final PostStatus postStatus;
+    private final CommentResponse comment;
+
+    public CommentAddedEvent(Long postId, String postCreatedByUsername, PostStatus postStatus,
+                             CommentResponse comment) {
+        super(postId);
+        this.postCreatedByUsername = postCreatedByUsername;
+        this.postStatus = postStatus;
+        this.comment = comment;
+    }
+}
@@ -0,0 +1,15 @@
+package com.project.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published once sample and load test data seeding has finished, whether or not it succeeded.
+ * {@code seeded} tells whether any posts were written, bypassing the usual post events.
+ */
+@Getter
+@AllArgsConstructor
+public class DataInitializedEvent {
+
+    private final boolean seeded;
+}
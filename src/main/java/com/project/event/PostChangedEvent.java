@@ -0,0 +1,15 @@
+package com.project.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published inside the writing transaction whenever a post or its comments change.
+ * Subclasses carry the details of status transitions and new comments.
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+
+    private final Long postId;
+}
@@ -0,0 +1,20 @@
+package com.project.event;
+
+import com.project.enums.PostStatus;
+import com.project.enums.PostType;
+import lombok.Getter;
+
+@Getter
+public class PostCreatedEvent extends PostChangedEvent {
+
+    private final String createdByUsername;
+    private final PostType type;
+    private final PostStatus status;
+
+    public PostCreatedEvent(Long postId, String createdByUsername, PostType type, PostStatus status) {
+        super(postId);
+        this.createdByUsername = createdByUsername;
+        this.type = type;
+        this.status = status;
+    }
+}
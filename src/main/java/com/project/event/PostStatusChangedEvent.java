@@ -0,0 +1,24 @@
+package com.project.event;
+
+import com.project.enums.PostStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class PostStatusChangedEvent extends PostChangedEvent {
+
+    private final String createdByUsername;
+    private final PostStatus previousStatus;
+    private final PostStatus status;
+    private final LocalDateTime updatedAt;
+
+    public PostStatusChangedEvent(Long postId, String createdByUsername, PostStatus previousStatus,
+                                  PostStatus status, LocalDateTime updatedAt) {
+        super(postId);
+        this.createdByUsername = createdByUsername;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.updatedAt = updatedAt;
+    }
+}
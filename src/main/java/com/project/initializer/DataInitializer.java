@@ -6,41 +6,80 @@ import com.project.entity.User;
 import com.project.enums.PostStatus;
 import com.project.enums.PostType;
 import com.project.enums.RoleType;
+import com.project.event.DataInitializedEvent;
 import com.project.repository.PostRepository;
 import com.project.repository.RoleRepository;
 import com.project.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+/**
+ * Seeds roles, sample users and sample posts once the application is ready. Seeding runs
+ * on the application task executor so it does not delay startup or readiness; set
+ * {@code app.data-initializer.async=false} when callers need the data before the first request.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class DataInitializer implements CommandLineRunner {
+public class DataInitializer {
 
     private final RoleRepository roleRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TaskExecutor taskExecutor;
+    private final ObjectProvider<LoadTestDataGenerator> loadTestDataGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.data-initializer.async:true}")
+    private boolean async;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (async) {
+            taskExecutor.execute(this::initialize);
+        } else {
+            initialize();
+        }
+    }
 
-    @Override
-    public void run(String... args) throws Exception {
+    void initialize() {
+        long started = System.currentTimeMillis();
         log.info("Initializing sample data...");
+        boolean seeded = false;
+        try {
+            seeded = seedSampleData();
+            LoadTestDataGenerator generator = loadTestDataGenerator.getIfAvailable();
+            if (generator != null) {
+                seeded |= generator.generate();
+            }
+            log.info("Data initialization completed in {} ms", System.currentTimeMillis() - started);
+        } catch (RuntimeException ex) {
+            // A partial seed may have written posts.
+            seeded = true;
+            log.error("Data initialization failed", ex);
+        }
+        eventPublisher.publishEvent(new DataInitializedEvent(seeded));
+    }
 
+    /**
+     * Returns whether sample posts were written.
+     */
+    private boolean seedSampleData() {
         if (roleRepository.count() == 0) {
-            Role adminRole = new Role();
-            adminRole.setName(RoleType.ADMIN);
-            roleRepository.save(adminRole);
-
-            Role userRole = new Role();
-            userRole.setName(RoleType.USER);
-            roleRepository.save(userRole);
-
+            roleRepository.saveAll(List.of(newRole(RoleType.ADMIN), newRole(RoleType.USER)));
             log.info("Roles created: ADMIN, USER");
         }
 
@@ -48,87 +87,56 @@ public class DataInitializer implements CommandLineRunner {
             Role adminRole = roleRepository.findByName(RoleType.ADMIN).orElseThrow();
             Role userRole = roleRepository.findByName(RoleType.USER).orElseThrow();
 
-            User admin = new User();
-            admin.setUsername("admin");
-            admin.setPassword(passwordEncoder.encode("admin123"));
-            admin.setEmail("admin@example.com");
-            Set<Role> adminRoles = new HashSet<>();
-            adminRoles.add(adminRole);
-            admin.setRoles(adminRoles);
-            userRepository.save(admin);
-
-            User user1 = new User();
-            user1.setUsername("john");
-            user1.setPassword(passwordEncoder.encode("john123"));
-            user1.setEmail("john@example.com");
-            Set<Role> user1Roles = new HashSet<>();
-            user1Roles.add(userRole);
-            user1.setRoles(user1Roles);
-            userRepository.save(user1);
-
-            User user2 = new User();
-            user2.setUsername("jane");
-            user2.setPassword(passwordEncoder.encode("jane123"));
-            user2.setEmail("jane@example.com");
-            Set<Role> user2Roles = new HashSet<>();
-            user2Roles.add(userRole);
-            user2.setRoles(user2Roles);
-            userRepository.save(user2);
-
+            User admin = newUser("admin", "admin123", "admin@example.com", adminRole);
+            User john = newUser("john", "john123", "john@example.com", userRole);
+            User jane = newUser("jane", "jane123", "jane@example.com", userRole);
+            userRepository.saveAll(List.of(admin, john, jane));
             log.info("Users created: admin, john, jane");
 
-            Post post1 = new Post();
-            post1.setTitle("Internet connectivity issue");
-            post1.setDescription("The WiFi in building A is not working properly");
-            post1.setType(PostType.ISSUE);
-            post1.setStatus(PostStatus.DRAFT);
-            post1.setCreatedBy(user1);
-            postRepository.save(post1);
-
-            Post post2 = new Post();
-            post2.setTitle("Noise complaint");
-            post2.setDescription("Loud music from apartment 302");
-            post2.setType(PostType.COMPLAINT);
-            post2.setStatus(PostStatus.PENDING_APPROVAL);
-            post2.setCreatedBy(user1);
-            postRepository.save(post2);
-
-            Post post3 = new Post();
-            post3.setTitle("Community meeting");
-            post3.setDescription("Monthly community meeting scheduled for next week");
-            post3.setType(PostType.ANNOUNCEMENT);
-            post3.setStatus(PostStatus.APPROVED);
-            post3.setCreatedBy(admin);
-            postRepository.save(post3);
-
-            Post post4 = new Post();
-            post4.setTitle("Lost keys");
-            post4.setDescription("Found a set of keys near the parking lot");
-            post4.setType(PostType.LOST);
-            post4.setStatus(PostStatus.APPROVED);
-            post4.setCreatedBy(user2);
-            postRepository.save(post4);
-
-            Post post5 = new Post();
-            post5.setTitle("Need help with moving");
-            post5.setDescription("Looking for help to move furniture this weekend");
-            post5.setType(PostType.HELP);
-            post5.setStatus(PostStatus.REJECTED);
-            post5.setCreatedBy(user2);
-            postRepository.save(post5);
-
-            Post post6 = new Post();
-            post6.setTitle("Maintenance request");
-            post6.setDescription("Elevator maintenance completed");
-            post6.setType(PostType.ISSUE);
-            post6.setStatus(PostStatus.CLOSED);
-            post6.setCreatedBy(admin);
-            post6.setAssignedUpdate("Issue has been resolved and elevator is now working properly");
-            postRepository.save(post6);
-
+            Post closed = newPost("Maintenance request", "Elevator maintenance completed",
+                    PostType.ISSUE, PostStatus.CLOSED, admin);
+            closed.setAssignedUpdate("Issue has been resolved and elevator is now working properly");
+
+            postRepository.saveAll(List.of(
+                    newPost("Internet connectivity issue", "The WiFi in building A is not working properly",
+                            PostType.ISSUE, PostStatus.DRAFT, john),
+                    newPost("Noise complaint", "Loud music from apartment 302",
+                            PostType.COMPLAINT, PostStatus.PENDING_APPROVAL, john),
+                    newPost("Community meeting", "Monthly community meeting scheduled for next week",
+                            PostType.ANNOUNCEMENT, PostStatus.APPROVED, admin),
+                    newPost("Lost keys", "Found a set of keys near the parking lot",
+                            PostType.LOST, PostStatus.APPROVED, jane),
+                    newPost("Need help with moving", "Looking for help to move furniture this weekend",
+                            PostType.HELP, PostStatus.REJECTED, jane),
+                    closed));
             log.info("Sample posts created in various states");
+            return true;
         }
+        return false;
+    }
+
+    private Role newRole(RoleType name) {
+        Role role = new Role();
+        role.setName(name);
+        return role;
+    }
+
+    private User newUser(String username, String rawPassword, String email, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword(passwordEncoder.encode(rawPassword));
+        user.setEmail(email);
+        user.setRoles(new HashSet<>(Set.of(role)));
+        return user;
+    }
 
-        log.info("Data initialization completed successfully!");
+    private Post newPost(String title, String description, PostType type, PostStatus status, User createdBy) {
+        Post post = new Post();
+        post.setTitle(title);
+        post.setDescription(description);
+        post.setType(type);
+        post.setStatus(status);
+        post.setCreatedBy(createdBy);
+        return post;
     }
 }
@@ -0,0 +1,238 @@
+package com.project.initializer;
+
+import com.project.entity.id.IdBlockAllocator;
+import com.project.enums.PostStatus;
+import com.project.enums.PostType;
+import com.project.enums.RoleType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates a production-sized synthetic dataset for local load testing. Rows are written
+ * with plain JDBC batches, bypassing the persistence context, and every synthetic user
+ * shares a single BCrypt hash of {@code app.loadtest.password}.
+ *
+ * <p>Distributions: a few authors write most posts, most posts are APPROVED, and comments
+ * go only to APPROVED or CLOSED posts, concentrated on a small share of recent posts.
+ */
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+@Slf4j
+public class LoadTestDataGenerator {
+
+    private static final String USERNAME_PREFIX = "loadtest-user-";
+
+    private static final PostStatus[] STATUSES = PostStatus.values();
+    // DRAFT, PENDING_APPROVAL, APPROVED, REJECTED, CLOSED
+    private static final int[] STATUS_WEIGHTS = {10, 15, 55, 5, 15};
+
+    private static final PostType[] TYPES = PostType.values();
+    // ISSUE, COMPLAINT, ANNOUNCEMENT, LOST, HELP
+    private static final int[] TYPE_WEIGHTS = {35, 20, 10, 15, 20};
+
+    private static final int HISTORY_DAYS = 365;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final IdBlockAllocator idBlockAllocator;
+
+    @Value("${app.loadtest.users:1000}")
+    private int userCount;
+
+    @Value("${app.loadtest.posts:100000}")
+    private int postCount;
+
+    @Value("${app.loadtest.comments:500000}")
+    private int commentCount;
+
+    @Value("${app.loadtest.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.loadtest.password:loadtest123}")
+    private String password;
+
+    /**
+     * Returns whether data was generated, {@code false} when it was already present.
+     */
+    public boolean generate() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE username = ?", Integer.class, USERNAME_PREFIX + 0);
+        if (existing != null && existing > 0) {
+            log.info("Load test data already present, skipping generation");
+            return false;
+        }
+
+        long started = System.currentTimeMillis();
+        long[] userIds = generateUsers();
+        PostRows posts = generatePosts(userIds);
+        int comments = generateComments(userIds, posts);
+        log.info("Load test data generated: {} users, {} posts, {} comments in {} ms",
+                userIds.length, posts.ids.length, comments, System.currentTimeMillis() - started);
+        return true;
+    }
+
+    private long[] generateUsers() {
+        String hash = passwordEncoder.encode(password);
+        long[] userIds = reserveIds("users", userCount);
+
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < userCount; i++) {
+            batch.add(new Object[]{userIds[i], USERNAME_PREFIX + i, hash, USERNAME_PREFIX + i + "@example.com"});
+            flushIfFull(batch, i == userCount - 1,
+                    "INSERT INTO users (id, username, password, email) VALUES (?, ?, ?, ?)");
+        }
+
+        Long roleId = jdbcTemplate.queryForObject(
+                "SELECT id FROM roles WHERE name = ?", Long.class, RoleType.USER.name());
+        for (int i = 0; i < userIds.length; i++) {
+            batch.add(new Object[]{userIds[i], roleId});
+            flushIfFull(batch, i == userIds.length - 1,
+                    "INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)");
+        }
+        return userIds;
+    }
+
+    private PostRows generatePosts(long[] userIds) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime start = LocalDateTime.now().minusDays(HISTORY_DAYS);
+        long spanSeconds = HISTORY_DAYS * 24L * 60 * 60;
+        PostRows rows = new PostRows(postCount);
+        rows.ids = reserveIds("posts", postCount);
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < postCount; i++) {
+            // Posts are written in creation order so ids and created_at grow together.
+            LocalDateTime createdAt = start.plusSeconds(spanSeconds * i / Math.max(1, postCount));
+            PostStatus status = STATUSES[weighted(random, STATUS_WEIGHTS)];
+            PostType type = TYPES[weighted(random, TYPE_WEIGHTS)];
+            LocalDateTime updatedAt = status == PostStatus.DRAFT
+                    ? createdAt
+                    : createdAt.plusMinutes(random.nextInt(60, 60 * 72));
+            String assignedUpdate = status == PostStatus.CLOSED ? "Resolved during load test generation" : null;
+
+            rows.createdAt[i] = createdAt;
+            rows.commentable[i] = status == PostStatus.APPROVED || status == PostStatus.CLOSED;
+            batch.add(new Object[]{rows.ids[i], "Synthetic " + type.name().toLowerCase() + " #" + i,
+                    "Generated post body " + i, type.name(), status.name(), userIds[skewed(random, userIds.length)],
+                    assignedUpdate, Timestamp.valueOf(createdAt), Timestamp.valueOf(updatedAt)});
+            flushIfFull(batch, i == postCount - 1,
+                    "INSERT INTO posts (id, title, description, type, status, created_by, assigned_update, " +
+                    "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        }
+        return rows;
+    }
+
+    private int generateComments(long[] userIds, PostRows posts) {
+        int[] commentable = posts.commentableIndexes();
+        if (commentable.length == 0) {
+            return 0;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime now = LocalDateTime.now();
+        long[] commentIds = reserveIds("comments", commentCount);
+        int[] perPost = new int[posts.ids.length];
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < commentCount; i++) {
+            // Recent posts attract most of the discussion.
+            int post = commentable[commentable.length - 1 - skewed(random, commentable.length)];
+            perPost[post]++;
+            LocalDateTime createdAt = posts.createdAt[post].plusMinutes(random.nextInt(1, 60 * 24 * 14));
+            if (createdAt.isAfter(now)) {
+                createdAt = now;
+            }
+            batch.add(new Object[]{commentIds[i], "Generated comment " + i, posts.ids[post],
+                    userIds[skewed(random, userIds.length)], Timestamp.valueOf(createdAt)});
+            flushIfFull(batch, i == commentCount - 1,
+                    "INSERT INTO comments (id, text, post_id, created_by, created_at) VALUES (?, ?, ?, ?, ?)");
+        }
+
+        for (int i = 0; i < perPost.length; i++) {
+            if (perPost[i] > 0) {
+                batch.add(new Object[]{perPost[i], posts.ids[i]});
+            }
+            flushIfFull(batch, i == perPost.length - 1, "UPDATE posts SET comment_count = ? WHERE id = ?");
+        }
+        return commentCount;
+    }
+
+    private void flushIfFull(List<Object[]> batch, boolean last, String sql) {
+        if (batch.size() >= batchSize || (last && !batch.isEmpty())) {
+            jdbcTemplate.batchUpdate(sql, batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Takes a contiguous block of ids from the same table the application allocates from, so
+     * rows written here never collide with ids handed out to the running application.
+     */
+    private long[] reserveIds(String sequenceName, int count) {
+        long first = idBlockAllocator.reserve(sequenceName, count);
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = first + i;
+        }
+        return ids;
+    }
+
+    private static int weighted(ThreadLocalRandom random, int[] weights) {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    /**
+     * Picks an index with a heavy bias towards the start of the range, so a small share of
+     * authors and posts accounts for most of the activity.
+     */
+    private static int skewed(ThreadLocalRandom random, int size) {
+        double r = random.nextDouble();
+        return (int) (size * r * r * r);
+    }
+
+    private static final class PostRows {
+
+        private final LocalDateTime[] createdAt;
+        private final boolean[] commentable;
+        private long[] ids;
+
+        private PostRows(int size) {
+            this.createdAt = new LocalDateTime[size];
+            this.commentable = new boolean[size];
+        }
+
+        private int[] commentableIndexes() {
+            int count = 0;
+            for (boolean c : commentable) {
+                if (c) {
+                    count++;
+                }
+            }
+            int[] indexes = new int[count];
+            int next = 0;
+            for (int i = 0; i < commentable.length; i++) {
+                if (commentable[i]) {
+                    indexes[next++] = i;
+                }
+            }
+            return indexes;
+        }
+    }
+}
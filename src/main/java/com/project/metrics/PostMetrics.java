@@ -0,0 +1,29 @@
+package com.project.metrics;
+
+import com.project.event.PostStatusChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Counts committed post status transitions as {@code posts.transitions}, tagged with the
+ * previous and new status. Rolled-back transitions never reach the counter.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    @TransactionalEventListener
+    public void onStatusChanged(PostStatusChangedEvent event) {
+        Counter.builder("posts.transitions")
+                .description("Committed post status transitions")
+                .tag("from", event.getPreviousStatus().name())
+                .tag("to", event.getStatus().name())
+                .register(meterRegistry)
+                .increment();
+    }
+}
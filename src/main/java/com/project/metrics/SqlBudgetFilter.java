@@ -0,0 +1,179 @@
+package com.project.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Measures the SQL each request runs and logs a warning when it goes over the configured
+ * statement or time budget, which is how N+1 regressions usually show up. Counts are
+ * recorded per route as {@code app.request.sql.statements} and {@code app.request.sql.time},
+ * and with {@code app.sql-budget.response-headers} enabled they are also returned in the
+ * {@code X-SQL-Count} and {@code X-SQL-Time-Ms} headers.
+ *
+ * <p>A streamed (NDJSON) response is measured up to the end of the async dispatch, so the
+ * statements its async thread runs count too; its headers, sent with the first bytes, carry
+ * only the statements run up to then.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-SQL-Count";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private static final String STATS_ATTRIBUTE = SqlBudgetFilter.class.getName() + ".STATS";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final Duration maxTime;
+    private final boolean responseHeaders;
+
+    public SqlBudgetFilter(MeterRegistry meterRegistry,
+                           @Value("${app.sql-budget.max-statements:15}") int maxStatements,
+                           @Value("${app.sql-budget.max-time:250ms}") Duration maxTime,
+                           @Value("${app.sql-budget.response-headers:false}") boolean responseHeaders) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.maxTime = maxTime;
+        this.responseHeaders = responseHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementStats started = (SqlStatementStats) request.getAttribute(STATS_ATTRIBUTE);
+        if (started != null) {
+            // The async dispatch after a streamed or deferred handler has finished.
+            try (SqlStatementStats.Resumed resumed = started.resume()) {
+                filterChain.doFilter(request, response);
+            }
+            if (!isAsyncStarted(request)) {
+                request.removeAttribute(STATS_ATTRIBUTE);
+                record(request, started);
+            }
+            return;
+        }
+
+        try (SqlStatementStats stats = SqlStatementStats.open()) {
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(STATS_ATTRIBUTE,
+                    new ResumingInterceptor(stats));
+            StatsHeaderWriter writer = responseHeaders ? new StatsHeaderWriter(response, stats) : null;
+            filterChain.doFilter(request, writer == null ? response : writer);
+            if (isAsyncStarted(request)) {
+                // Recorded on the async dispatch, once the work on the async thread has been counted.
+                request.setAttribute(STATS_ATTRIBUTE, stats);
+                return;
+            }
+            if (writer != null) {
+                writer.writeIfPending();
+            }
+            record(request, stats);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("uri", pattern == null ? "UNKNOWN" : pattern.toString(), "method", request.getMethod());
+
+        DistributionSummary.builder("app.request.sql.statements")
+                .description("JDBC statements executed per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("app.request.sql.time")
+                .description("Time spent executing JDBC statements per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getTime());
+
+        if (stats.getStatements() > maxStatements || stats.getTime().compareTo(maxTime) > 0) {
+            meterRegistry.counter("app.request.sql.budget.exceeded", tags).increment();
+            log.warn("SQL budget exceeded: {} {} ran {} statements in {} ms (budget {} statements, {} ms)",
+                    request.getMethod(), request.getRequestURI(), stats.getStatements(),
+                    stats.getTime().toMillis(), maxStatements, maxTime.toMillis());
+        }
+    }
+
+    /**
+     * Adds the headers just before the response is committed, which for a written body is
+     * after the handler has done all of its database work.
+     */
+    private static final class StatsHeaderWriter extends OnCommittedResponseWrapper {
+
+        private final SqlStatementStats stats;
+        private boolean written;
+
+        private StatsHeaderWriter(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            if (!written && !isCommitted()) {
+                written = true;
+                setHeader(COUNT_HEADER, Integer.toString(stats.getStatements()));
+                setHeader(TIME_HEADER, Long.toString(stats.getTime().toMillis()));
+            }
+        }
+
+        private void writeIfPending() {
+            onResponseCommitted();
+        }
+    }
+
+    /**
+     * Resumes the request's scope on the thread that runs a {@code Callable} or
+     * {@code StreamingResponseBody} handler, so its statements count against the request.
+     */
+    private static final class ResumingInterceptor implements CallableProcessingInterceptor {
+
+        private final SqlStatementStats stats;
+        private volatile SqlStatementStats.Resumed resumed;
+
+        private ResumingInterceptor(SqlStatementStats stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+            resumed = stats.resume();
+        }
+
+        @Override
+        public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+            SqlStatementStats.Resumed current = resumed;
+            if (current != null) {
+                resumed = null;
+                current.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.project.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the JDBC statements run on the current thread through a {@link CountingDataSource},
+ * and the time spent in them, between {@link #open()} and {@link #close()}. Scopes nest: a
+ * statement is counted in every scope open on the thread, so a test can wrap a MockMvc call
+ * that the request filter also measures. Work handed to another thread is counted in the
+ * same scope when that thread {@link #resume() resumes} it.
+ *
+ * <pre>
+ * try (SqlStatementStats sql = SqlStatementStats.open()) {
+ *     mockMvc.perform(get("/api/posts/approved"));
+ *     assertThat(sql.getStatements()).isLessThanOrEqualTo(2);
+ * }
+ * </pre>
+ */
+public final class SqlStatementStats implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatementStats parent;
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong nanos = new AtomicLong();
+    private boolean closed;
+
+    private SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    public static SqlStatementStats open() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void record(long elapsedNanos) {
+        for (SqlStatementStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.statements.incrementAndGet();
+            stats.nanos.addAndGet(elapsedNanos);
+        }
+    }
+
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Makes this scope, and the scopes it is nested in, current on the calling thread until
+     * the returned handle is closed.
+     */
+    public Resumed resume() {
+        SqlStatementStats previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public int getStatements() {
+        return statements.get();
+    }
+
+    public Duration getTime() {
+        return Duration.ofNanos(nanos.get());
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (CURRENT.get() == this) {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+
+    /**
+     * A scope resumed on another thread; closing it restores what was current before.
+     */
+    @FunctionalInterface
+    public interface Resumed extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,129 @@
+package com.project.notification;
+
+import com.project.config.CustomUserDetails;
+import com.project.dto.post.PostStatusChangeResponse;
+import com.project.enums.PostStatus;
+import com.project.event.CommentAddedEvent;
+import com.project.event.PostStatusChangedEvent;
+import com.project.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes post status changes and new comments to connected clients over Server-Sent
+ * Events. Events are taken from the services' transactional events once the writing
+ * transaction has committed, filtered per subscriber by post visibility and handed to a
+ * small dispatcher pool, so a slow client never blocks the request that caused the event.
+ */
+@Component
+@Slf4j
+public class PostEventBroadcaster {
+
+    private final Set<PostEventSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration timeout;
+
+    public PostEventBroadcaster(@Value("${app.events.dispatch-threads:4}") int dispatchThreads,
+                                @Value("${app.events.buffer-size:256}") int bufferSize,
+                                @Value("${app.events.max-subscribers:10000}") int maxSubscribers,
+                                @Value("${app.events.timeout:30m}") Duration timeout) {
+        AtomicInteger threads = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "post-events-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Opens a stream of events the user may see, optionally narrowed to a single post.
+     */
+    public SseEmitter subscribe(CustomUserDetails currentUser, Long postId) {
+        if (subscriptions.size() >= maxSubscribers) {
+            throw new ServiceUnavailableException("Too many event subscribers, fall back to polling");
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        PostEventSubscription subscription = new PostEventSubscription(emitter, currentUser, postId, bufferSize);
+        Runnable remove = () -> {
+            subscription.close();
+            subscriptions.remove(subscription);
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(ex -> remove.run());
+        subscriptions.add(subscription);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onPostStatusChanged(PostStatusChangedEvent event) {
+        // Clients that could see the post before or after the change learn about it.
+        boolean publiclyVisible = event.getPreviousStatus() == PostStatus.APPROVED
+                || event.getStatus() == PostStatus.APPROVED;
+        PostStatusChangeResponse payload = new PostStatusChangeResponse(event.getPostId(),
+                event.getPreviousStatus(), event.getStatus(), event.getUpdatedAt());
+        broadcast(event.getPostId(), event.getCreatedByUsername(), publiclyVisible, "post-status", payload);
+    }
+
+    @TransactionalEventListener
+    public void onCommentAdded(CommentAddedEvent event) {
+        broadcast(event.getPostId(), event.getPostCreatedByUsername(),
+                event.getPostStatus() == PostStatus.APPROVED, "comment", event.getComment());
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        subscriptions.removeIf(PostEventSubscription::isClosed);
+        for (PostEventSubscription subscription : subscriptions) {
+            if (subscription.offerHeartbeat()) {
+                dispatch(subscription);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    private void broadcast(Long postId, String ownerUsername, boolean publiclyVisible, String name, Object payload) {
+        for (PostEventSubscription subscription : subscriptions) {
+            if (subscription.accepts(postId, ownerUsername, publiclyVisible)
+                    && subscription.offer(SseEmitter.event().name(name).data(payload))) {
+                dispatch(subscription);
+            }
+        }
+    }
+
+    private void dispatch(PostEventSubscription subscription) {
+        try {
+            dispatcher.execute(subscription::drain);
+        } catch (RuntimeException ex) {
+            log.debug("Event dispatcher rejected a delivery", ex);
+            subscription.close();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscriptions.forEach(subscription -> subscription.getEmitter().complete());
+        subscriptions.clear();
+    }
+}
@@ -0,0 +1,122 @@
+package com.project.notification;
+
+import com.project.config.CustomUserDetails;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * One connected client. Events are queued in a bounded buffer and written by at most one
+ * dispatcher thread at a time; when the client reads slower than events arrive the oldest
+ * queued events are dropped and the client is sent an {@code overflow} event with the
+ * number it missed, so it can reload instead of acting on a partial history.
+ */
+class PostEventSubscription {
+
+    private final SseEmitter emitter;
+    private final CustomUserDetails user;
+    private final Long postId;
+    private final int capacity;
+
+    // Guarded by this; the emitter is written outside the lock.
+    private final Deque<SseEventBuilder> queue = new ArrayDeque<>();
+    private long dropped;
+    private boolean draining;
+    private boolean closed;
+
+    PostEventSubscription(SseEmitter emitter, CustomUserDetails user, Long postId, int capacity) {
+        this.emitter = emitter;
+        this.user = user;
+        this.postId = postId;
+        this.capacity = capacity;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * Whether this subscriber may see an event about the given post, following the same
+     * rules as reading the post: admins, the owner, or anyone when the post is public.
+     */
+    boolean accepts(Long eventPostId, String ownerUsername, boolean publiclyVisible) {
+        if (postId != null && !postId.equals(eventPostId)) {
+            return false;
+        }
+        return publiclyVisible || user.isAdmin() || user.getUsername().equals(ownerUsername);
+    }
+
+    /**
+     * Queues an event and returns {@code true} when the caller must schedule {@link #drain()}.
+     */
+    synchronized boolean offer(SseEventBuilder event) {
+        if (closed) {
+            return false;
+        }
+        if (queue.size() == capacity) {
+            queue.pollFirst();
+            dropped++;
+        }
+        queue.addLast(event);
+        return startDraining();
+    }
+
+    /**
+     * Queues a keep-alive unless real events are already pending.
+     */
+    synchronized boolean offerHeartbeat() {
+        if (closed || !queue.isEmpty()) {
+            return false;
+        }
+        queue.addLast(SseEmitter.event().comment("keep-alive"));
+        return startDraining();
+    }
+
+    void drain() {
+        while (true) {
+            SseEventBuilder event;
+            long missed;
+            synchronized (this) {
+                event = queue.pollFirst();
+                missed = dropped;
+                dropped = 0;
+                if (closed || (event == null && missed == 0)) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                if (missed > 0) {
+                    emitter.send(SseEmitter.event().name("overflow").data(missed));
+                }
+                if (event != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // The client went away; the broadcaster drops closed subscriptions.
+                close();
+                return;
+            }
+        }
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    synchronized void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    private boolean startDraining() {
+        if (draining) {
+            return false;
+        }
+        draining = true;
+        return true;
+    }
+}
@@ -1,16 +1,54 @@
 package com.project.repository;
 
+import com.project.dto.comment.CommentResponse;
 import com.project.entity.Comment;
 import com.project.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    String SELECT_COMMENT_RESPONSE = "SELECT new com.project.dto.comment.CommentResponse(" +
+            "c.id, c.text, c.post.id, u.username, c.createdAt) " +
+            "FROM Comment c JOIN c.createdBy u ";
+
     List<Comment> findByPost(Post post);
 
     List<Comment> findByPostOrderByCreatedAtDesc(Post post);
+
+    @Query(SELECT_COMMENT_RESPONSE + "WHERE c.post.id = :postId ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentResponse> findPageByPost(@Param("postId") Long postId, Pageable pageable);
+
+    @Query(SELECT_COMMENT_RESPONSE +
+            "WHERE c.post.id = :postId " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentResponse> findPageByPostAfter(@Param("postId") Long postId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    @Query("SELECT c.text FROM Comment c WHERE c.post.id = :postId")
+    List<String> findTextsByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT c.post.id AS postId, c.text AS text FROM Comment c WHERE c.post.id IN :postIds")
+    List<CommentTextView> findTextsByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    interface CommentTextView {
+
+        Long getPostId();
+
+        String getText();
+    }
 }
@@ -1,19 +1,123 @@
 package com.project.repository;
 
+import com.project.dto.post.PostResponse;
 import com.project.entity.Post;
 import com.project.entity.User;
 import com.project.enums.PostStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    String STREAM_FETCH_SIZE = "500";
+
+    String SELECT_POST_RESPONSE = "SELECT new com.project.dto.post.PostResponse(" +
+            "p.id, p.title, p.description, p.type, p.status, u.username, p.assignedUpdate, p.createdAt, p.updatedAt, " +
+            "p.commentCount) " +
+            "FROM Post p JOIN p.createdBy u ";
+
     List<Post> findByStatus(PostStatus status);
 
     List<Post> findByCreatedBy(User user);
 
     List<Post> findByStatusIn(List<PostStatus> statuses);
+
+    @Query(SELECT_POST_RESPONSE + "WHERE p.id = :id")
+    Optional<PostResponse> findResponseById(@Param("id") Long id);
+
+    @Query(SELECT_POST_RESPONSE + "WHERE p.id IN :ids")
+    List<PostResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id AS id, p.status AS status, u.username AS createdByUsername " +
+            "FROM Post p JOIN p.createdBy u WHERE p.id IN :ids")
+    List<PostStatusView> findStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Locks the given posts that still have {@code status} and returns their ids, so a
+     * following {@link #transitionStatus} in the same transaction moves exactly these rows.
+     */
+    @Query(value = "SELECT id FROM posts WHERE id IN (:ids) AND status = :status FOR UPDATE", nativeQuery = true)
+    List<Long> lockIdsByStatus(@Param("ids") Collection<Long> ids, @Param("status") String status);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.status = :to, p.updatedAt = :updatedAt, p.version = p.version + 1 " +
+            "WHERE p.id IN :ids AND p.status = :from")
+    int transitionStatus(@Param("ids") Collection<Long> ids,
+                         @Param("from") PostStatus from,
+                         @Param("to") PostStatus to,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query(SELECT_POST_RESPONSE + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostResponse> findPage(Pageable pageable);
+
+    @Query(SELECT_POST_RESPONSE +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostResponse> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    @Query(SELECT_POST_RESPONSE + "WHERE p.status = :status ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostResponse> findPageByStatus(@Param("status") PostStatus status, Pageable pageable);
+
+    @Query(SELECT_POST_RESPONSE +
+            "WHERE p.status = :status " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostResponse> findPageByStatusAfter(@Param("status") PostStatus status,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    @Query(SELECT_POST_RESPONSE + "WHERE u.id = :userId ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostResponse> findPageByCreatedBy(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(SELECT_POST_RESPONSE +
+            "WHERE u.id = :userId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostResponse> findPageByCreatedByAfter(@Param("userId") Long userId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    @Query(SELECT_POST_RESPONSE + "ORDER BY p.createdAt DESC, p.id DESC")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<PostResponse> streamAll();
+
+    @Query(SELECT_POST_RESPONSE + "WHERE p.status = :status ORDER BY p.createdAt DESC, p.id DESC")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<PostResponse> streamByStatus(@Param("status") PostStatus status);
+
+    @Query(SELECT_POST_RESPONSE + "WHERE u.id = :userId ORDER BY p.createdAt DESC, p.id DESC")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<PostResponse> streamByCreatedBy(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :id")
+    int incrementCommentCount(@Param("id") Long id);
+
+    interface PostStatusView {
+
+        Long getId();
+
+        PostStatus getStatus();
+
+        String getCreatedByUsername();
+    }
 }
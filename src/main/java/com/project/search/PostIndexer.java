@@ -0,0 +1,133 @@
+package com.project.search;
+
+import com.project.dto.post.PostResponse;
+import com.project.event.DataInitializedEvent;
+import com.project.event.PostChangedEvent;
+import com.project.repository.CommentRepository;
+import com.project.repository.CommentRepository.CommentTextView;
+import com.project.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps {@link PostSearchIndex} in step with the database. Changed posts are re-read and
+ * re-indexed after their transaction commits, on a single background thread so requests
+ * do not wait for the index and updates to one post are applied in order. A post changed
+ * several times before the thread gets to it is indexed once.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostIndexer {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final PostSearchIndex searchIndex;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        Long postId = event.getPostId();
+        if (pending.add(postId)) {
+            worker.execute(() -> reindex(postId));
+        }
+    }
+
+    // Runs after seeding so posts written directly by the initializers are picked up.
+    @EventListener
+    public void onDataInitialized(DataInitializedEvent event) {
+        if (searchIndex.isEmpty()) {
+            worker.execute(this::rebuild);
+        }
+    }
+
+    private void reindex(Long postId) {
+        // Removed before reading so a change committed from here on queues another pass.
+        pending.remove(postId);
+        try {
+            postRepository.findResponseById(postId).ifPresentOrElse(
+                    post -> searchIndex.index(post, commentRepository.findTextsByPostId(postId)),
+                    () -> searchIndex.delete(postId));
+            if (pending.isEmpty()) {
+                searchIndex.refresh();
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to index post {}", postId, ex);
+        }
+    }
+
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            int indexed = transactionTemplate.execute(status -> {
+                int count = 0;
+                List<PostResponse> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+                try (Stream<PostResponse> posts = postRepository.streamAll()) {
+                    for (PostResponse post : (Iterable<PostResponse>) posts::iterator) {
+                        batch.add(post);
+                        if (batch.size() == REBUILD_BATCH_SIZE) {
+                            count += indexBatch(batch);
+                        }
+                    }
+                }
+                return count + indexBatch(batch);
+            });
+            searchIndex.refresh();
+            searchIndex.commit();
+            log.info("Search index rebuilt with {} posts in {} ms", indexed, System.currentTimeMillis() - started);
+        } catch (RuntimeException ex) {
+            log.error("Search index rebuild failed", ex);
+        }
+    }
+
+    private int indexBatch(List<PostResponse> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<String>> comments = commentRepository
+                .findTextsByPostIdIn(batch.stream().map(PostResponse::getId).toList()).stream()
+                .collect(Collectors.groupingBy(CommentTextView::getPostId,
+                        Collectors.mapping(CommentTextView::getText, Collectors.toList())));
+        int indexed = 0;
+        for (PostResponse post : batch) {
+            // One post the index rejects must not leave every other post unsearchable.
+            try {
+                searchIndex.index(post, comments.getOrDefault(post.getId(), List.of()));
+                indexed++;
+            } catch (RuntimeException ex) {
+                log.warn("Failed to index post {}", post.getId(), ex);
+            }
+        }
+        batch.clear();
+        return indexed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
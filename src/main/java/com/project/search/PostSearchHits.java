@@ -0,0 +1,14 @@
+package com.project.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PostSearchHits {
+
+    private final List<Long> postIds;
+    private final long totalHits;
+}
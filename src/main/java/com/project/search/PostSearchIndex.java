@@ -0,0 +1,184 @@
+package com.project.search;
+
+import com.project.dto.post.PostResponse;
+import com.project.enums.PostStatus;
+import com.project.enums.PostType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Embedded Lucene index holding one document per post: title, description, assigned update
+ * and the text of all its comments, plus the type, status and owner used for filtering.
+ * The index lives in memory unless {@code app.search.index-path} points at a directory.
+ */
+@Component
+@Slf4j
+public class PostSearchIndex {
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String ASSIGNED_UPDATE = "assignedUpdate";
+    private static final String COMMENTS = "comments";
+    private static final String TYPE = "type";
+    private static final String STATUS = "status";
+    private static final String OWNER = "owner";
+
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(
+            TITLE, 3f,
+            DESCRIPTION, 1f,
+            ASSIGNED_UPDATE, 1f,
+            COMMENTS, 0.5f);
+
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public PostSearchIndex(@Value("${app.search.index-path:}") String indexPath) throws IOException {
+        this.directory = indexPath.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexPath));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    public boolean isEmpty() {
+        return writer.getDocStats().numDocs == 0;
+    }
+
+    public void index(PostResponse post, Collection<String> comments) {
+        Document document = new Document();
+        document.add(new StringField(ID, post.getId().toString(), Field.Store.YES));
+        document.add(new TextField(TITLE, post.getTitle(), Field.Store.NO));
+        if (post.getDescription() != null) {
+            document.add(new TextField(DESCRIPTION, post.getDescription(), Field.Store.NO));
+        }
+        if (post.getAssignedUpdate() != null) {
+            document.add(new TextField(ASSIGNED_UPDATE, post.getAssignedUpdate(), Field.Store.NO));
+        }
+        for (String comment : comments) {
+            document.add(new TextField(COMMENTS, comment, Field.Store.NO));
+        }
+        document.add(new StringField(TYPE, post.getType().name(), Field.Store.NO));
+        document.add(new StringField(STATUS, post.getStatus().name(), Field.Store.NO));
+        document.add(new StringField(OWNER, post.getCreatedByUsername(), Field.Store.NO));
+        try {
+            writer.updateDocument(new Term(ID, post.getId().toString()), document);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void delete(Long postId) {
+        try {
+            writer.deleteDocuments(new Term(ID, postId.toString()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Makes changes indexed so far visible to searches.
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.commit-interval-ms:30000}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException ex) {
+            log.warn("Failed to commit the search index", ex);
+        }
+    }
+
+    /**
+     * Ranks posts matching {@code text}. A {@code null} {@code visibleTo} searches every
+     * post; otherwise only approved posts and posts owned by that user match.
+     */
+    public PostSearchHits search(String text, PostType type, PostStatus status, String visibleTo,
+                                 int offset, int limit) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(parser.parse(text), BooleanClause.Occur.MUST);
+        if (type != null) {
+            query.add(new TermQuery(new Term(TYPE, type.name())), BooleanClause.Occur.FILTER);
+        }
+        if (status != null) {
+            query.add(new TermQuery(new Term(STATUS, status.name())), BooleanClause.Occur.FILTER);
+        }
+        if (visibleTo != null) {
+            Query visible = new BooleanQuery.Builder()
+                    .add(new TermQuery(new Term(STATUS, PostStatus.APPROVED.name())), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(OWNER, visibleTo)), BooleanClause.Occur.SHOULD)
+                    .build();
+            query.add(visible, BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query.build(), offset + limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> postIds = new ArrayList<>(limit);
+                for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                    ScoreDoc hit = topDocs.scoreDocs[i];
+                    postIds.add(Long.valueOf(storedFields.document(hit.doc).get(ID)));
+                }
+                return new PostSearchHits(postIds, topDocs.totalHits.value);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+}
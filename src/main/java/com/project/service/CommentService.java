@@ -1,13 +1,23 @@
 package com.project.service;
 
+import com.project.config.CustomUserDetails;
+import com.project.dto.comment.CommentCountResponse;
 import com.project.dto.comment.CommentRequest;
 import com.project.dto.comment.CommentResponse;
-
-import java.util.List;
+import com.project.dto.common.CursorPageResponse;
 
 public interface CommentService {
 
-    CommentResponse addComment(Long postId, CommentRequest commentRequest, String username);
+    CommentResponse addComment(Long postId, CommentRequest commentRequest, CustomUserDetails currentUser);
+
+    /**
+     * Accepts a comment for asynchronous writing; it is not readable until the write-behind
+     * queue flushes it. Only available with {@code app.comments.write-behind.enabled=true}.
+     */
+    CommentResponse acceptComment(Long postId, CommentRequest commentRequest, CustomUserDetails currentUser);
+
+    CursorPageResponse<CommentResponse> getCommentsByPostId(Long postId, CustomUserDetails currentUser,
+                                                            String cursor, int size);
 
-    List<CommentResponse> getCommentsByPostId(Long postId, String username);
+    CommentCountResponse getCommentCount(Long postId, CustomUserDetails currentUser);
 }
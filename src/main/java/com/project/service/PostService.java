@@ -1,16 +1,24 @@
 package com.project.service;
 
+import com.project.config.CustomUserDetails;
+import com.project.dto.common.CursorPageResponse;
+import com.project.dto.post.BulkModerationRequest;
+import com.project.dto.post.BulkModerationResponse;
 import com.project.dto.post.PostRequest;
 import com.project.dto.post.PostResponse;
+import com.project.dto.post.PostSearchResponse;
+import com.project.dto.post.PostStatsResponse;
 import com.project.dto.post.PostUpdateRequest;
+import com.project.enums.PostStatus;
+import com.project.enums.PostType;
 
-import java.util.List;
+import java.util.function.Consumer;
 
 public interface PostService {
 
-    PostResponse createPost(PostRequest postRequest, String username);
+    PostResponse createPost(PostRequest postRequest, CustomUserDetails currentUser);
 
-    PostResponse submitPost(Long postId, String username);
+    PostResponse submitPost(Long postId, CustomUserDetails currentUser);
 
     PostResponse approvePost(Long postId);
 
@@ -18,13 +26,26 @@ public interface PostService {
 
     PostResponse closePost(Long postId);
 
+    BulkModerationResponse moderatePosts(BulkModerationRequest request);
+
     PostResponse assignUpdate(Long postId, PostUpdateRequest updateRequest);
 
-    PostResponse getPostById(Long postId, String username);
+    PostResponse getPostById(Long postId, CustomUserDetails currentUser);
+
+    PostSearchResponse searchPosts(String query, PostType type, PostStatus status, int page, int size,
+                                   CustomUserDetails currentUser);
+
+    PostStatsResponse getPostStats(int authors);
+
+    CursorPageResponse<PostResponse> getAllPosts(String cursor, int size);
+
+    CursorPageResponse<PostResponse> getApprovedPosts(String cursor, int size);
+
+    CursorPageResponse<PostResponse> getPostsByUser(CustomUserDetails currentUser, String cursor, int size);
 
-    List<PostResponse> getAllPosts();
+    void streamAllPosts(Consumer<PostResponse> consumer);
 
-    List<PostResponse> getApprovedPosts();
+    void streamApprovedPosts(Consumer<PostResponse> consumer);
 
-    List<PostResponse> getPostsByUser(String username);
+    void streamPostsByUser(CustomUserDetails currentUser, Consumer<PostResponse> consumer);
 }
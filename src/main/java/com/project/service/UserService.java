@@ -8,5 +8,5 @@ public interface UserService {
 
     UserResponse registerUser(RegisterRequest registerRequest);
 
-    User findByUsername(String username);
+    User getReferenceById(Long id);
 }
@@ -1,88 +1,115 @@
 package com.project.service.impl;
 
+import com.project.cache.PostCache;
+import com.project.config.CustomUserDetails;
+import com.project.dto.comment.CommentCountResponse;
 import com.project.dto.comment.CommentRequest;
 import com.project.dto.comment.CommentResponse;
+import com.project.dto.common.CursorPageResponse;
+import com.project.dto.post.PostResponse;
 import com.project.entity.Comment;
-import com.project.entity.Post;
-import com.project.entity.User;
 import com.project.enums.PostStatus;
-import com.project.enums.RoleType;
-import com.project.exception.InvalidOperationException;
+import com.project.event.CommentAddedEvent;
 import com.project.exception.ResourceNotFoundException;
 import com.project.exception.UnauthorizedException;
 import com.project.repository.CommentRepository;
 import com.project.repository.PostRepository;
 import com.project.service.CommentService;
 import com.project.service.UserService;
+import com.project.util.pagination.Cursor;
+import com.project.util.pagination.CursorPagination;
+import com.project.writebehind.CommentWriteBehindQueue;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("app.service")
 public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserService userService;
+    private final PostCache postCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<CommentWriteBehindQueue> commentWriteBehindQueue;
 
     @Override
     @Transactional
-    public CommentResponse addComment(Long postId, CommentRequest commentRequest, String username) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
-
-        User user = userService.findByUsername(username);
-
-        boolean isAdmin = user.getRoles().stream()
-                .anyMatch(role -> role.getName() == RoleType.ADMIN);
-
-        boolean isOwner = post.getCreatedBy().getId().equals(user.getId());
-
-        if (!isAdmin && !isOwner && post.getStatus() != PostStatus.APPROVED) {
-            throw new UnauthorizedException("You can only comment on your own posts or approved posts");
-        }
+    public CommentResponse addComment(Long postId, CommentRequest commentRequest, CustomUserDetails currentUser) {
+        PostResponse post = findVisiblePost(postId, currentUser,
+                "You can only comment on your own posts or approved posts");
 
         Comment comment = new Comment();
         comment.setText(commentRequest.getText());
-        comment.setPost(post);
-        comment.setCreatedBy(user);
+        comment.setPost(postRepository.getReferenceById(postId));
+        comment.setCreatedBy(userService.getReferenceById(currentUser.getId()));
+
+        // Flushed so the response carries the creation timestamp Hibernate sets on insert.
+        Comment savedComment = commentRepository.saveAndFlush(comment);
+        postRepository.incrementCommentCount(postId);
+        postCache.evictPost(postId);
+        CommentResponse response = convertToResponse(savedComment, postId, currentUser.getUsername());
+        eventPublisher.publishEvent(new CommentAddedEvent(postId, post.getCreatedByUsername(), post.getStatus(),
+                response));
+        return response;
+    }
 
-        Comment savedComment = commentRepository.save(comment);
-        return convertToResponse(savedComment);
+    // Only the visibility check touches the database, and only when the post is not cached.
+    @Override
+    public CommentResponse acceptComment(Long postId, CommentRequest commentRequest, CustomUserDetails currentUser) {
+        PostResponse post = findVisiblePost(postId, currentUser,
+                "You can only comment on your own posts or approved posts");
+        return commentWriteBehindQueue.getObject().accept(post, commentRequest.getText(), currentUser).toResponse();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<CommentResponse> getCommentsByPostId(Long postId, String username) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
+    public CursorPageResponse<CommentResponse> getCommentsByPostId(Long postId, CustomUserDetails currentUser,
+                                                                   String cursor, int size) {
+        findVisiblePost(postId, currentUser, "You don't have permission to view comments on this post");
+
+        Cursor after = CursorPagination.decode(cursor);
+        int pageSize = CursorPagination.normalizeSize(size);
+        List<CommentResponse> comments = after == null
+                ? commentRepository.findPageByPost(postId, CursorPagination.limit(pageSize))
+                : commentRepository.findPageByPostAfter(postId, after.getCreatedAt(), after.getId(),
+                        CursorPagination.limit(pageSize));
+        return CursorPagination.toPage(comments, pageSize, CommentResponse::getCreatedAt, CommentResponse::getId);
+    }
 
-        User user = userService.findByUsername(username);
+    // Served from the post cache, which addComment evicts, so no comment rows are read.
+    @Override
+    public CommentCountResponse getCommentCount(Long postId, CustomUserDetails currentUser) {
+        PostResponse post = findVisiblePost(postId, currentUser,
+                "You don't have permission to view comments on this post");
+        return new CommentCountResponse(postId, post.getCommentCount());
+    }
 
-        boolean isAdmin = user.getRoles().stream()
-                .anyMatch(role -> role.getName() == RoleType.ADMIN);
+    private PostResponse findVisiblePost(Long postId, CustomUserDetails currentUser, String deniedMessage) {
+        PostResponse post = postCache.getPost(postId, () -> postRepository.findResponseById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId)));
 
-        boolean isOwner = post.getCreatedBy().getId().equals(user.getId());
+        boolean isOwner = post.getCreatedByUsername().equals(currentUser.getUsername());
 
-        if (!isAdmin && !isOwner && post.getStatus() != PostStatus.APPROVED) {
-            throw new UnauthorizedException("You don't have permission to view comments on this post");
+        if (!currentUser.isAdmin() && !isOwner && post.getStatus() != PostStatus.APPROVED) {
+            throw new UnauthorizedException(deniedMessage);
         }
-
-        return commentRepository.findByPostOrderByCreatedAtDesc(post).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return post;
     }
 
-    private CommentResponse convertToResponse(Comment comment) {
+    private CommentResponse convertToResponse(Comment comment, Long postId, String createdByUsername) {
         CommentResponse response = new CommentResponse();
         response.setId(comment.getId());
         response.setText(comment.getText());
-        response.setPostId(comment.getPost().getId());
-        response.setCreatedByUsername(comment.getCreatedBy().getUsername());
+        response.setPostId(postId);
+        response.setCreatedByUsername(createdByUsername);
         response.setCreatedAt(comment.getCreatedAt());
         return response;
     }
@@ -1,37 +1,75 @@
 package com.project.service.impl;
 
+import com.project.cache.PostCache;
+import com.project.config.CustomUserDetails;
+import com.project.dto.common.CursorPageResponse;
+import com.project.dto.post.BulkModerationRequest;
+import com.project.dto.post.BulkModerationResponse;
+import com.project.dto.post.BulkModerationResult;
 import com.project.dto.post.PostRequest;
 import com.project.dto.post.PostResponse;
+import com.project.dto.post.PostSearchResponse;
+import com.project.dto.post.PostStatsResponse;
 import com.project.dto.post.PostUpdateRequest;
 import com.project.entity.Post;
 import com.project.entity.User;
+import com.project.enums.ModerationOutcome;
 import com.project.enums.PostStatus;
-import com.project.enums.RoleType;
+import com.project.enums.PostType;
+import com.project.event.PostChangedEvent;
+import com.project.event.PostCreatedEvent;
+import com.project.event.PostStatusChangedEvent;
+import com.project.exception.ConflictException;
 import com.project.exception.InvalidOperationException;
 import com.project.exception.ResourceNotFoundException;
 import com.project.exception.UnauthorizedException;
 import com.project.repository.PostRepository;
+import com.project.repository.PostRepository.PostStatusView;
+import com.project.search.PostSearchHits;
+import com.project.search.PostSearchIndex;
 import com.project.service.PostService;
 import com.project.service.UserService;
+import com.project.stats.PostCounters;
+import com.project.util.pagination.Cursor;
+import com.project.util.pagination.CursorPagination;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed("app.service")
 public class PostServiceImpl implements PostService {
 
+    // Ranking deeper than this is rarely useful and makes every page collect that many hits.
+    private static final int MAX_SEARCH_RESULTS = 1000;
+
     private final PostRepository postRepository;
     private final UserService userService;
+    private final PostCache postCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostCounters postCounters;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
-    public PostResponse createPost(PostRequest postRequest, String username) {
-        User user = userService.findByUsername(username);
+    public PostResponse createPost(PostRequest postRequest, CustomUserDetails currentUser) {
+        User user = userService.getReferenceById(currentUser.getId());
 
         Post post = new Post();
         post.setTitle(postRequest.getTitle());
@@ -40,19 +78,19 @@ public class PostServiceImpl implements PostService {
         post.setStatus(PostStatus.DRAFT);
         post.setCreatedBy(user);
 
-        Post savedPost = postRepository.save(post);
-        return convertToResponse(savedPost);
+        // Flushed so the response carries the timestamps Hibernate sets on insert.
+        Post savedPost = postRepository.saveAndFlush(post);
+        eventPublisher.publishEvent(new PostCreatedEvent(savedPost.getId(), currentUser.getUsername(),
+                savedPost.getType(), savedPost.getStatus()));
+        return convertToResponse(savedPost, currentUser.getUsername());
     }
 
     @Override
     @Transactional
-    public PostResponse submitPost(Long postId, String username) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
+    public PostResponse submitPost(Long postId, CustomUserDetails currentUser) {
+        PostResponse post = findResponse(postId);
 
-        User user = userService.findByUsername(username);
-
-        if (!post.getCreatedBy().getId().equals(user.getId())) {
+        if (!post.getCreatedByUsername().equals(currentUser.getUsername())) {
             throw new UnauthorizedException("You can only submit your own posts");
         }
 
@@ -60,54 +98,84 @@ public class PostServiceImpl implements PostService {
             throw new InvalidOperationException("Only DRAFT posts can be submitted for approval");
         }
 
-        post.setStatus(PostStatus.PENDING_APPROVAL);
-        Post updatedPost = postRepository.save(post);
-        return convertToResponse(updatedPost);
+        return transition(post, PostStatus.PENDING_APPROVAL);
     }
 
     @Override
     @Transactional
     public PostResponse approvePost(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
-
-        if (post.getStatus() != PostStatus.PENDING_APPROVAL) {
-            throw new InvalidOperationException("Only PENDING_APPROVAL posts can be approved");
-        }
+        PostResponse post = findResponse(postId);
+        checkModeration(post.getStatus(), PostStatus.APPROVED);
 
-        post.setStatus(PostStatus.APPROVED);
-        Post updatedPost = postRepository.save(post);
-        return convertToResponse(updatedPost);
+        PostResponse updatedPost = transition(post, PostStatus.APPROVED);
+        postCache.evictApprovedFeed();
+        return updatedPost;
     }
 
     @Override
     @Transactional
     public PostResponse rejectPost(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
-
-        if (post.getStatus() != PostStatus.PENDING_APPROVAL) {
-            throw new InvalidOperationException("Only PENDING_APPROVAL posts can be rejected");
-        }
+        PostResponse post = findResponse(postId);
+        checkModeration(post.getStatus(), PostStatus.REJECTED);
 
-        post.setStatus(PostStatus.REJECTED);
-        Post updatedPost = postRepository.save(post);
-        return convertToResponse(updatedPost);
+        return transition(post, PostStatus.REJECTED);
     }
 
     @Override
     @Transactional
     public PostResponse closePost(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
+        PostResponse post = findResponse(postId);
+        checkModeration(post.getStatus(), PostStatus.CLOSED);
+
+        PostResponse updatedPost = transition(post, PostStatus.CLOSED);
+        postCache.evictApprovedFeed();
+        return updatedPost;
+    }
 
-        if (post.getStatus() != PostStatus.APPROVED) {
-            throw new InvalidOperationException("Only APPROVED posts can be closed");
+    @Override
+    @Transactional
+    public BulkModerationResponse moderatePosts(BulkModerationRequest request) {
+        PostStatus target = request.getTargetStatus();
+        PostStatus source = moderationSource(target);
+        Set<Long> ids = new LinkedHashSet<>(request.getIds());
+
+        List<PostStatusView> views = postRepository.findStatusesByIdIn(ids);
+        Map<Long, PostStatus> current = statusesById(views);
+        List<Long> candidates = ids.stream()
+                .filter(id -> current.get(id) == source)
+                .toList();
+
+        // The locked rows still have the source status and keep it until this transaction ends, so
+        // the update moves exactly these; a candidate another request moved since the read drops out.
+        Set<Long> updated = candidates.isEmpty()
+                ? Set.of()
+                : Set.copyOf(postRepository.lockIdsByStatus(candidates, source.name()));
+        if (!updated.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            postRepository.transitionStatus(updated, source, target, now);
+            Map<Long, String> owners = views.stream()
+                    .collect(Collectors.toMap(PostStatusView::getId, PostStatusView::getCreatedByUsername));
+            updated.forEach(id -> {
+                postCache.evictPost(id);
+                eventPublisher.publishEvent(new PostStatusChangedEvent(id, owners.get(id), source, target, now));
+            });
+            if (target == PostStatus.APPROVED || target == PostStatus.CLOSED) {
+                postCache.evictApprovedFeed();
+            }
         }
 
-        post.setStatus(PostStatus.CLOSED);
-        Post updatedPost = postRepository.save(post);
-        return convertToResponse(updatedPost);
+        List<BulkModerationResult> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            if (updated.contains(id)) {
+                results.add(new BulkModerationResult(id, ModerationOutcome.UPDATED, null));
+            } else if (!current.containsKey(id)) {
+                results.add(new BulkModerationResult(id, ModerationOutcome.NOT_FOUND, "Post not found"));
+            } else {
+                results.add(new BulkModerationResult(id, ModerationOutcome.INVALID_TRANSITION,
+                        moderationMessage(source, target)));
+            }
+        }
+        return new BulkModerationResponse(target, updated.size(), results);
     }
 
     @Override
@@ -117,66 +185,214 @@ public class PostServiceImpl implements PostService {
                 .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
 
         post.setAssignedUpdate(updateRequest.getAssignedUpdate());
-        Post updatedPost = postRepository.save(post);
+        Post updatedPost = postRepository.saveAndFlush(post);
+        postCache.evictPost(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        if (post.getStatus() == PostStatus.APPROVED) {
+            postCache.evictApprovedFeed();
+        }
         return convertToResponse(updatedPost);
     }
 
+    // Not transactional: a cache hit should not borrow a connection from the pool.
     @Override
-    @Transactional(readOnly = true)
-    public PostResponse getPostById(Long postId, String username) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
+    public PostResponse getPostById(Long postId, CustomUserDetails currentUser) {
+        PostResponse post = postCache.getPost(postId, () -> postRepository.findResponseById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId)));
 
-        User user = userService.findByUsername(username);
+        if (!canView(post, currentUser)) {
+            throw new UnauthorizedException("You don't have permission to view this post");
+        }
 
-        boolean isAdmin = user.getRoles().stream()
-                .anyMatch(role -> role.getName() == RoleType.ADMIN);
+        return post;
+    }
 
-        boolean isOwner = post.getCreatedBy().getId().equals(user.getId());
+    @Override
+    @Transactional(readOnly = true)
+    public PostSearchResponse searchPosts(String query, PostType type, PostStatus status, int page, int size,
+                                          CustomUserDetails currentUser) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidOperationException("Search query must not be empty");
+        }
+        int pageNumber = Math.max(page, 0);
+        int pageSize = CursorPagination.normalizeSize(size);
+        int offset = pageNumber * pageSize;
+        if (offset + pageSize > MAX_SEARCH_RESULTS) {
+            throw new InvalidOperationException(
+                    "Search results are limited to the first " + MAX_SEARCH_RESULTS + " matches, refine the query");
+        }
 
-        if (!isAdmin && !isOwner && post.getStatus() != PostStatus.APPROVED) {
-            throw new UnauthorizedException("You don't have permission to view this post");
+        PostSearchHits hits = postSearchIndex.search(query, type, status,
+                currentUser.isAdmin() ? null : currentUser.getUsername(), offset, pageSize);
+        List<PostResponse> items = List.of();
+        if (!hits.getPostIds().isEmpty()) {
+            Map<Long, PostResponse> posts = postRepository.findResponsesByIdIn(hits.getPostIds()).stream()
+                    .collect(Collectors.toMap(PostResponse::getId, post -> post));
+            // The index trails commits slightly, so filters are re-checked against the rows just read.
+            items = hits.getPostIds().stream()
+                    .map(posts::get)
+                    .filter(Objects::nonNull)
+                    .filter(post -> canView(post, currentUser))
+                    .filter(post -> type == null || post.getType() == type)
+                    .filter(post -> status == null || post.getStatus() == status)
+                    .toList();
+        }
+        return new PostSearchResponse(items, pageNumber, pageSize, hits.getTotalHits() > offset + pageSize);
+    }
+
+    @Override
+    public PostStatsResponse getPostStats(int authors) {
+        Map<PostStatus, Long> byStatus = new EnumMap<>(PostStatus.class);
+        for (PostStatus status : PostStatus.values()) {
+            byStatus.put(status, postCounters.countByStatus(status));
         }
+        Map<PostType, Long> byType = new EnumMap<>(PostType.class);
+        for (PostType type : PostType.values()) {
+            byType.put(type, postCounters.countByType(type));
+        }
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        return new PostStatsResponse(total, byStatus, byType,
+                postCounters.topAuthors(Math.max(1, Math.min(authors, PostCounters.MAX_TOP_AUTHORS))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostResponse> getAllPosts(String cursor, int size) {
+        Cursor after = CursorPagination.decode(cursor);
+        int pageSize = CursorPagination.normalizeSize(size);
+        List<PostResponse> posts = after == null
+                ? postRepository.findPage(CursorPagination.limit(pageSize))
+                : postRepository.findPageAfter(after.getCreatedAt(), after.getId(), CursorPagination.limit(pageSize));
+        return CursorPagination.toPage(posts, pageSize, PostResponse::getCreatedAt, PostResponse::getId);
+    }
 
-        return convertToResponse(post);
+    @Override
+    public CursorPageResponse<PostResponse> getApprovedPosts(String cursor, int size) {
+        Cursor after = CursorPagination.decode(cursor);
+        int pageSize = CursorPagination.normalizeSize(size);
+        return postCache.getApprovedFeedPage(cursor, pageSize, () -> {
+            List<PostResponse> posts = after == null
+                    ? postRepository.findPageByStatus(PostStatus.APPROVED, CursorPagination.limit(pageSize))
+                    : postRepository.findPageByStatusAfter(PostStatus.APPROVED, after.getCreatedAt(), after.getId(),
+                            CursorPagination.limit(pageSize));
+            return CursorPagination.toPage(posts, pageSize, PostResponse::getCreatedAt, PostResponse::getId);
+        });
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<PostResponse> getAllPosts() {
-        return postRepository.findAll().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<PostResponse> getPostsByUser(CustomUserDetails currentUser, String cursor, int size) {
+        Cursor after = CursorPagination.decode(cursor);
+        int pageSize = CursorPagination.normalizeSize(size);
+        List<PostResponse> posts = after == null
+                ? postRepository.findPageByCreatedBy(currentUser.getId(), CursorPagination.limit(pageSize))
+                : postRepository.findPageByCreatedByAfter(currentUser.getId(), after.getCreatedAt(), after.getId(),
+                        CursorPagination.limit(pageSize));
+        return CursorPagination.toPage(posts, pageSize, PostResponse::getCreatedAt, PostResponse::getId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<PostResponse> getApprovedPosts() {
-        return postRepository.findByStatus(PostStatus.APPROVED).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public void streamAllPosts(Consumer<PostResponse> consumer) {
+        try (Stream<PostResponse> posts = postRepository.streamAll()) {
+            posts.forEach(consumer);
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<PostResponse> getPostsByUser(String username) {
-        User user = userService.findByUsername(username);
-        return postRepository.findByCreatedBy(user).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public void streamApprovedPosts(Consumer<PostResponse> consumer) {
+        try (Stream<PostResponse> posts = postRepository.streamByStatus(PostStatus.APPROVED)) {
+            posts.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamPostsByUser(CustomUserDetails currentUser, Consumer<PostResponse> consumer) {
+        try (Stream<PostResponse> posts = postRepository.streamByCreatedBy(currentUser.getId())) {
+            posts.forEach(consumer);
+        }
+    }
+
+    private PostResponse findResponse(Long postId) {
+        return postRepository.findResponseById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
+    }
+
+    /**
+     * Moves the post from the status it was read with to {@code to}. The update only matches
+     * while the post still has that status, so of two concurrent transitions exactly one
+     * wins and the other gets a conflict instead of silently overwriting it.
+     */
+    private PostResponse transition(PostResponse post, PostStatus to) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = postRepository.transitionStatus(List.of(post.getId()), post.getStatus(), to, now);
+        if (updated == 0) {
+            throw new ConflictException(
+                    "Post " + post.getId() + " was changed by another request, reload it and try again");
+        }
+        postCache.evictPost(post.getId());
+        eventPublisher.publishEvent(new PostStatusChangedEvent(post.getId(), post.getCreatedByUsername(),
+                post.getStatus(), to, now));
+        post.setStatus(to);
+        post.setUpdatedAt(now);
+        return post;
+    }
+
+    private boolean canView(PostResponse post, CustomUserDetails currentUser) {
+        return currentUser.isAdmin()
+                || post.getCreatedByUsername().equals(currentUser.getUsername())
+                || post.getStatus() == PostStatus.APPROVED;
+    }
+
+    private void checkModeration(PostStatus current, PostStatus target) {
+        PostStatus source = moderationSource(target);
+        if (current != source) {
+            throw new InvalidOperationException(moderationMessage(source, target));
+        }
+    }
+
+    /**
+     * The only status a post may be in before an admin moves it to {@code target}.
+     */
+    private PostStatus moderationSource(PostStatus target) {
+        return switch (target) {
+            case APPROVED, REJECTED -> PostStatus.PENDING_APPROVAL;
+            case CLOSED -> PostStatus.APPROVED;
+            default -> throw new InvalidOperationException("Posts cannot be moderated to " + target);
+        };
+    }
+
+    private String moderationMessage(PostStatus source, PostStatus target) {
+        String action = switch (target) {
+            case APPROVED -> "approved";
+            case REJECTED -> "rejected";
+            default -> "closed";
+        };
+        return "Only " + source + " posts can be " + action;
+    }
+
+    private Map<Long, PostStatus> statusesById(Collection<PostStatusView> views) {
+        return views.stream().collect(Collectors.toMap(PostStatusView::getId, PostStatusView::getStatus));
     }
 
     private PostResponse convertToResponse(Post post) {
+        return convertToResponse(post, post.getCreatedBy().getUsername());
+    }
+
+    private PostResponse convertToResponse(Post post, String createdByUsername) {
         PostResponse response = new PostResponse();
         response.setId(post.getId());
         response.setTitle(post.getTitle());
         response.setDescription(post.getDescription());
         response.setType(post.getType());
         response.setStatus(post.getStatus());
-        response.setCreatedByUsername(post.getCreatedBy().getUsername());
+        response.setCreatedByUsername(createdByUsername);
         response.setAssignedUpdate(post.getAssignedUpdate());
         response.setCreatedAt(post.getCreatedAt());
         response.setUpdatedAt(post.getUpdatedAt());
+        response.setCommentCount(post.getCommentCount());
         return response;
     }
 }
@@ -10,6 +10,7 @@ import com.project.exception.ResourceNotFoundException;
 import com.project.repository.RoleRepository;
 import com.project.repository.UserRepository;
 import com.project.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -21,6 +22,7 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("app.service")
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
@@ -56,9 +58,8 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public User findByUsername(String username) {
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+    public User getReferenceById(Long id) {
+        return userRepository.getReferenceById(id);
     }
 
     private UserResponse convertToResponse(User user) {
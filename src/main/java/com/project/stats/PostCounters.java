@@ -0,0 +1,301 @@
+package com.project.stats;
+
+import com.project.enums.PostStatus;
+import com.project.enums.PostType;
+import com.project.event.DataInitializedEvent;
+import com.project.event.PostCreatedEvent;
+import com.project.event.PostStatusChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Post counts by status, type and author. Committed creations and status transitions are
+ * added to striped in-memory deltas, which are periodically added to the {@code post_counters}
+ * table and replaced by the table's totals, so every instance converges on the same counts.
+ * Reading a count never touches the database.
+ *
+ * <p>Posts written without events (seeding, direct SQL) are picked up by a full recount,
+ * run after seeding and on {@code app.stats.reconcile-cron}.
+ */
+@Component
+@Slf4j
+public class PostCounters {
+
+    /**
+     * The most authors {@link #topAuthors} returns; only this many are kept ranked.
+     */
+    public static final int MAX_TOP_AUTHORS = 100;
+
+    static final String STATUS = "status";
+    static final String TYPE = "type";
+    static final String AUTHOR = "author";
+
+    private static final String ADD_SQL =
+            "INSERT INTO post_counters (dimension, counter_key, post_count) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE post_count = post_count + VALUES(post_count)";
+    private static final String SELECT_SQL = "SELECT dimension, counter_key, post_count FROM post_counters";
+    private static final String[] RECOUNT_SQL = {
+            "DELETE FROM post_counters",
+            "INSERT INTO post_counters (dimension, counter_key, post_count) " +
+            "SELECT 'status', status, COUNT(*) FROM posts GROUP BY status",
+            "INSERT INTO post_counters (dimension, counter_key, post_count) " +
+            "SELECT 'type', type, COUNT(*) FROM posts GROUP BY type",
+            "INSERT INTO post_counters (dimension, counter_key, post_count) " +
+            "SELECT 'author', u.username, COUNT(*) FROM posts p JOIN users u ON u.id = p.created_by " +
+            "GROUP BY u.username"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, ConcurrentMap<String, Slot>> dimensions = Map.of(
+            STATUS, new ConcurrentHashMap<>(),
+            TYPE, new ConcurrentHashMap<>(),
+            AUTHOR, new ConcurrentHashMap<>());
+    // Not a monitor: flush and recount hold it across JDBC calls, which would pin a virtual thread.
+    private final Lock lock = new ReentrantLock();
+    // Highest counts first; read without locking, changed only under rankingLock.
+    private final NavigableSet<RankedAuthor> ranking = new ConcurrentSkipListSet<>();
+    private final Map<String, RankedAuthor> ranked = new HashMap<>();
+    private final Lock rankingLock = new ReentrantLock();
+
+    public PostCounters(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                        MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        for (PostStatus status : PostStatus.values()) {
+            Gauge.builder("posts.count", () -> count(STATUS, status.name()))
+                    .description("Posts per status")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+        reload();
+    }
+
+    public long countByStatus(PostStatus status) {
+        return count(STATUS, status.name());
+    }
+
+    public long countByType(PostType type) {
+        return count(TYPE, type.name());
+    }
+
+    /**
+     * The {@code limit} authors with the most posts, highest first, for a {@code limit} of at
+     * most {@link #MAX_TOP_AUTHORS}.
+     */
+    public Map<String, Long> topAuthors(int limit) {
+        Map<String, Long> authors = new LinkedHashMap<>();
+        ranking.stream()
+                .limit(limit)
+                .forEach(author -> authors.put(author.username(), author.count()));
+        return authors;
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        add(STATUS, event.getStatus().name(), 1);
+        add(TYPE, event.getType().name(), 1);
+        add(AUTHOR, event.getCreatedByUsername(), 1);
+        rank(event.getCreatedByUsername());
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(PostStatusChangedEvent event) {
+        add(STATUS, event.getPreviousStatus().name(), -1);
+        add(STATUS, event.getStatus().name(), 1);
+    }
+
+    @EventListener
+    public void onDataInitialized(DataInitializedEvent event) {
+        if (event.isSeeded()) {
+            recount();
+        }
+    }
+
+    /**
+     * Adds the pending deltas to the table and reloads the totals, which also brings in
+     * changes made on other instances. Deltas that fail to save are kept for the next run.
+     */
+    @Scheduled(fixedDelayString = "${app.stats.flush-interval-ms:5000}")
+    public void flush() {
+        lock.lock();
+        try {
+            List<Object[]> rows = new ArrayList<>();
+            List<Slot> flushed = new ArrayList<>();
+            dimensions.forEach((dimension, slots) -> slots.forEach((key, slot) -> {
+                long delta = slot.pending.sumThenReset();
+                if (delta != 0) {
+                    // Moved to the loaded total straight away so readers never see it missing.
+                    slot.stored += delta;
+                    rows.add(new Object[]{dimension, key, delta});
+                    flushed.add(slot);
+                }
+            }));
+
+            if (!rows.isEmpty()) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(ADD_SQL, rows));
+                } catch (DataAccessException | TransactionException ex) {
+                    for (int i = 0; i < flushed.size(); i++) {
+                        long delta = (long) rows.get(i)[2];
+                        flushed.get(i).stored -= delta;
+                        flushed.get(i).pending.add(delta);
+                    }
+                    log.warn("Failed to save post counters, retrying on the next flush", ex);
+                    return;
+                }
+            }
+            try {
+                reload();
+            } catch (DataAccessException ex) {
+                log.warn("Failed to reload post counters", ex);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the table from the posts themselves, correcting any drift. Deltas pending at
+     * the start are dropped since the recount already includes them; a creation or transition
+     * committed while the recount runs may still be counted twice until the next recount.
+     */
+    @Scheduled(cron = "${app.stats.reconcile-cron:-}")
+    public void recount() {
+        lock.lock();
+        try {
+            long started = System.currentTimeMillis();
+            dimensions.values().forEach(slots -> slots.values().forEach(slot -> slot.pending.reset()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(RECOUNT_SQL));
+                reload();
+                log.info("Post counters recounted in {} ms", System.currentTimeMillis() - started);
+            } catch (DataAccessException | TransactionException ex) {
+                log.warn("Failed to recount post counters", ex);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private long count(String dimension, String key) {
+        Slot slot = dimensions.get(dimension).get(key);
+        return slot == null ? 0 : slot.value();
+    }
+
+    private void add(String dimension, String key, long delta) {
+        slot(dimension, key).pending.add(delta);
+    }
+
+    private Slot slot(String dimension, String key) {
+        return dimensions.get(dimension).computeIfAbsent(key, k -> new Slot());
+    }
+
+    private void reload() {
+        Map<String, Map<String, Long>> totals = new HashMap<>();
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            totals.computeIfAbsent(rs.getString(1), d -> new HashMap<>()).put(rs.getString(2), rs.getLong(3));
+        });
+        dimensions.forEach((dimension, slots) -> {
+            Map<String, Long> loaded = totals.getOrDefault(dimension, Map.of());
+            slots.forEach((key, slot) -> slot.stored = loaded.getOrDefault(key, 0L));
+            loaded.forEach((key, count) -> slot(dimension, key).stored = count);
+        });
+        rankAll();
+    }
+
+    /**
+     * Moves one author to their current place in the ranking. Counts only grow between
+     * reloads, so an author who dropped out can only come back through this call.
+     */
+    private void rank(String username) {
+        rankingLock.lock();
+        try {
+            RankedAuthor previous = ranked.remove(username);
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            insert(username, count(AUTHOR, username));
+        } finally {
+            rankingLock.unlock();
+        }
+    }
+
+    // Reloaded totals can move any author, so the ranking is rebuilt from every counter.
+    private void rankAll() {
+        rankingLock.lock();
+        try {
+            ranking.clear();
+            ranked.clear();
+            dimensions.get(AUTHOR).forEach((username, slot) -> insert(username, slot.value()));
+        } finally {
+            rankingLock.unlock();
+        }
+    }
+
+    private void insert(String username, long count) {
+        if (count <= 0) {
+            return;
+        }
+        RankedAuthor author = new RankedAuthor(username, count);
+        ranking.add(author);
+        ranked.put(username, author);
+        if (ranked.size() > MAX_TOP_AUTHORS) {
+            ranked.remove(ranking.pollLast().username());
+        }
+    }
+
+    private record RankedAuthor(String username, long count) implements Comparable<RankedAuthor> {
+
+        private static final Comparator<RankedAuthor> ORDER = Comparator
+                .comparingLong(RankedAuthor::count).reversed()
+                .thenComparing(RankedAuthor::username);
+
+        @Override
+        public int compareTo(RankedAuthor other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * A total as last loaded from the table plus the changes committed here since.
+     */
+    private static final class Slot {
+
+        private final LongAdder pending = new LongAdder();
+        private volatile long stored;
+
+        private long value() {
+            return stored + pending.sum();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.project.util.http;
+
+import com.project.dto.comment.CommentCountResponse;
+import com.project.dto.common.CursorPageResponse;
+import com.project.dto.post.PostResponse;
+import org.springframework.http.CacheControl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * Strong ETags for post and comment reads, computed from the cached {@link PostResponse}s so
+ * a matching {@code If-None-Match} is answered with 304 before any body is written. Every
+ * field a read can see change is part of its tag: a post's {@code updatedAt} does not move
+ * when comments are added, so the comment count is hashed in as well.
+ */
+public final class ETags {
+
+    /**
+     * Lets clients keep a copy but revalidate it on every use; responses are per user.
+     */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ETags() {
+    }
+
+    public static String forPost(PostResponse post) {
+        return tag(mix(FNV_OFFSET, post));
+    }
+
+    public static String forPostPage(CursorPageResponse<PostResponse> page) {
+        long hash = FNV_OFFSET;
+        for (PostResponse post : page.getItems()) {
+            hash = mix(hash, post);
+        }
+        return tag(mix(hash, Objects.hashCode(page.getNextCursor())));
+    }
+
+    /**
+     * Comments are never edited or removed, so their count is enough to tell whether any
+     * page of a post's comments can have changed.
+     */
+    public static String forComments(CommentCountResponse count) {
+        return tag(mix(mix(FNV_OFFSET, count.getPostId()), count.getCount()));
+    }
+
+    private static long mix(long hash, PostResponse post) {
+        hash = mix(hash, post.getId());
+        hash = mix(hash, post.getStatus().ordinal());
+        hash = mix(hash, post.getCommentCount());
+        LocalDateTime updatedAt = post.getUpdatedAt();
+        if (updatedAt != null) {
+            hash = mix(hash, updatedAt.toEpochSecond(ZoneOffset.UTC));
+            hash = mix(hash, updatedAt.getNano());
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+
+    private static String tag(long hash) {
+        return '"' + Long.toHexString(hash) + '"';
+    }
+}
@@ -0,0 +1,14 @@
+package com.project.util.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class Cursor {
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+}
@@ -0,0 +1,78 @@
+package com.project.util.pagination;
+
+import com.project.dto.common.CursorPageResponse;
+import com.project.exception.InvalidOperationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination helpers shared by the list endpoints. Pages are ordered by
+ * {@code (createdAt DESC, id DESC)} and the cursor is an opaque token holding the
+ * position of the last row returned.
+ */
+public final class CursorPagination {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private CursorPagination() {
+    }
+
+    public static int normalizeSize(int size) {
+        if (size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Fetches one extra row so the caller can tell whether another page exists
+     * without issuing a count query.
+     */
+    public static Pageable limit(int pageSize) {
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidOperationException("Invalid cursor");
+            }
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidOperationException("Invalid cursor");
+        }
+    }
+
+    public static <T> CursorPageResponse<T> toPage(List<T> rows, int pageSize,
+                                                   Function<T, LocalDateTime> createdAt,
+                                                   Function<T, Long> id) {
+        if (rows.size() <= pageSize) {
+            return new CursorPageResponse<>(rows, null, false);
+        }
+        List<T> items = rows.subList(0, pageSize);
+        T last = items.get(pageSize - 1);
+        return new CursorPageResponse<>(items, encode(createdAt.apply(last), id.apply(last)), true);
+    }
+}
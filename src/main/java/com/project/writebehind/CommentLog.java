@@ -0,0 +1,230 @@
+package com.project.writebehind;
+
+import com.project.enums.PostStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only file of accepted comments that are not yet in the database. Each record is
+ * framed as {@code [length][crc32][payload]}, so a record torn by a crash is detected and
+ * ignored on recovery. The file is emptied whenever every appended record has been written
+ * to the database.
+ *
+ * <p>Writers append under a lock and then wait for {@link #sync(long)}; concurrent writers
+ * share one {@code fsync}, so the cost of durability is paid per burst rather than per comment.
+ */
+@Slf4j
+class CommentLog implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final boolean fsync;
+    private final List<PendingComment> recovered;
+
+    private final Lock writeLock = new ReentrantLock();
+    private final Lock syncLock = new ReentrantLock();
+    private long written;
+    private volatile long synced;
+    private long unflushed;
+
+    CommentLog(Path path, boolean fsync) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            this.fsync = fsync;
+            this.recovered = readAll();
+            // Anything after the last intact record is a torn write; new records start from there.
+            channel.truncate(channel.position());
+            this.unflushed = recovered.size();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot open comment log " + path, ex);
+        }
+    }
+
+    /**
+     * Records read from the file at startup, in append order.
+     */
+    List<PendingComment> getRecovered() {
+        return recovered;
+    }
+
+    /**
+     * Appends a record and hands it to {@code enqueue} while still holding the write lock, so
+     * a record is never reported flushed before it is counted. If {@code enqueue} refuses the
+     * record it is cut from the file again and {@code -1} is returned; otherwise the result is
+     * a position to pass to {@link #sync(long)}.
+     */
+    long append(PendingComment comment, BooleanSupplier enqueue) {
+        ByteBuffer record = encode(comment);
+        writeLock.lock();
+        try {
+            long start = channel.position();
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            if (!enqueue.getAsBoolean()) {
+                channel.truncate(start);
+                return -1;
+            }
+            unflushed++;
+            return ++written;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot append to comment log", ex);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns once every record up to {@code position} is on disk.
+     */
+    void sync(long position) {
+        if (!fsync || synced >= position) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (synced >= position) {
+                return;
+            }
+            long target;
+            writeLock.lock();
+            try {
+                target = written;
+            } finally {
+                writeLock.unlock();
+            }
+            channel.force(false);
+            synced = target;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot sync comment log", ex);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Marks {@code count} records as written to the database and empties the file once
+     * nothing in it is still pending.
+     */
+    void flushed(int count) {
+        writeLock.lock();
+        try {
+            unflushed -= count;
+            if (unflushed == 0) {
+                channel.truncate(0);
+            }
+        } catch (IOException ex) {
+            log.warn("Failed to truncate comment log", ex);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            log.warn("Failed to close comment log", ex);
+        }
+    }
+
+    private List<PendingComment> readAll() throws IOException {
+        List<PendingComment> comments = new ArrayList<>();
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+        long size = channel.size();
+        long position = 0;
+        try {
+            while (true) {
+                int length = in.readInt();
+                long crc = in.readInt() & 0xFFFFFFFFL;
+                if (length < 0 || length > size - position - 8) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                if (checksum(payload) != crc) {
+                    log.warn("Comment log record at offset {} is corrupt, ignoring the rest of the log", position);
+                    break;
+                }
+                comments.add(decode(payload));
+                position += 8 + length;
+            }
+        } catch (EOFException ex) {
+            // End of the log, possibly in the middle of a torn record.
+        }
+        channel.position(position);
+        return comments;
+    }
+
+    private static ByteBuffer encode(PendingComment comment) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128 + comment.getText().length());
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeLong(comment.getId());
+            out.writeLong(comment.getPostId());
+            out.writeLong(comment.getCreatedById());
+            out.writeUTF(comment.getCreatedByUsername());
+            out.writeUTF(comment.getPostCreatedByUsername());
+            out.writeUTF(comment.getPostStatus().name());
+            out.writeUTF(comment.getCreatedAt().toString());
+            byte[] text = comment.getText().getBytes(StandardCharsets.UTF_8);
+            out.writeInt(text.length);
+            out.write(text);
+            byte[] payload = bytes.toByteArray();
+
+            ByteBuffer record = ByteBuffer.allocate(8 + payload.length);
+            record.putInt(payload.length).putInt((int) checksum(payload)).put(payload).flip();
+            return record;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static PendingComment decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        long id = in.readLong();
+        long postId = in.readLong();
+        long createdById = in.readLong();
+        String createdByUsername = in.readUTF();
+        String postCreatedByUsername = in.readUTF();
+        PostStatus postStatus = PostStatus.valueOf(in.readUTF());
+        LocalDateTime createdAt = LocalDateTime.parse(in.readUTF());
+        byte[] text = new byte[in.readInt()];
+        in.readFully(text);
+        return new PendingComment(id, postId, new String(text, StandardCharsets.UTF_8), createdById,
+                createdByUsername, postCreatedByUsername, postStatus, createdAt);
+    }
+
+    private static long checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,267 @@
+package com.project.writebehind;
+
+import com.project.cache.PostCache;
+import com.project.config.CustomUserDetails;
+import com.project.dto.post.PostResponse;
+import com.project.entity.id.IdBlockAllocator;
+import com.project.event.CommentAddedEvent;
+import com.project.exception.ServiceUnavailableException;
+import com.project.repository.CommentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in write-behind path for new comments ({@code app.comments.write-behind.enabled}).
+ * An accepted comment gets its id straight away, is appended to a local {@link CommentLog}
+ * and put on a bounded queue; a single writer thread then inserts queued comments in JDBC
+ * batches, bumps the posts' comment counts and publishes the usual {@link CommentAddedEvent}
+ * in the same transaction. When the queue is full new comments are refused with 503.
+ *
+ * <p>Comments still in the log at startup were accepted before a crash; they are written
+ * first, skipping any whose rows already made it to the database.
+ */
+@Component
+@ConditionalOnProperty(name = "app.comments.write-behind.enabled", havingValue = "true")
+@Slf4j
+public class CommentWriteBehindQueue {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO comments (id, text, post_id, created_by, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INCREMENT_COUNT_SQL =
+            "UPDATE posts SET comment_count = comment_count + ? WHERE id = ?";
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final IdBlockAllocator idBlockAllocator;
+    private final CommentRepository commentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostCache postCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final BlockingQueue<PendingComment> queue;
+    private final CommentLog commentLog;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final Timer flushTimer;
+    private final Counter rejected;
+    private final Counter dropped;
+
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public CommentWriteBehindQueue(IdBlockAllocator idBlockAllocator,
+                                   CommentRepository commentRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   PostCache postCache,
+                                   ApplicationEventPublisher eventPublisher,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.comments.write-behind.capacity:10000}") int capacity,
+                                   @Value("${app.comments.write-behind.batch-size:500}") int batchSize,
+                                   @Value("${app.comments.write-behind.max-delay:50ms}") Duration maxDelay,
+                                   @Value("${app.comments.write-behind.log-path}") String logPath,
+                                   @Value("${app.comments.write-behind.fsync:true}") boolean fsync) {
+        this.idBlockAllocator = idBlockAllocator;
+        this.commentRepository = commentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postCache = postCache;
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.commentLog = new CommentLog(Path.of(logPath), fsync);
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+
+        Gauge.builder("comments.write_behind.queue.depth", queue, BlockingQueue::size)
+                .description("Accepted comments waiting to be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("comments.write_behind.flush")
+                .description("Time to write one batch of queued comments")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("comments.write_behind.rejected")
+                .description("Comments refused because the queue was full")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("comments.write_behind.dropped")
+                .description("Accepted comments the database refused")
+                .register(meterRegistry);
+
+        this.writer = new Thread(this::run, "comment-writer");
+        writer.setDaemon(true);
+        if (!commentLog.getRecovered().isEmpty()) {
+            log.info("Recovered {} unwritten comments from {}", commentLog.getRecovered().size(), logPath);
+        }
+    }
+
+    /**
+     * Logs the comment and queues it for writing. Returns once the comment is durable in the
+     * local log; it becomes visible to readers after the next batch is written.
+     */
+    public PendingComment accept(PostResponse post, String text, CustomUserDetails author) {
+        PendingComment comment = new PendingComment(idBlockAllocator.next("comments"), post.getId(), text,
+                author.getId(), author.getUsername(), post.getCreatedByUsername(), post.getStatus(),
+                LocalDateTime.now());
+        long position = commentLog.append(comment, () -> queue.offer(comment));
+        if (position < 0) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many comments are waiting to be saved, please retry shortly");
+        }
+        commentLog.sync(position);
+        return comment;
+    }
+
+    // Started once every listener of CommentAddedEvent is registered.
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        writer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // The writer notices within a second, writes what is queued and exits.
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        commentLog.close();
+    }
+
+    private void run() {
+        List<PendingComment> recovered = commentLog.getRecovered();
+        for (int from = 0; from < recovered.size() && running; from += batchSize) {
+            write(recovered.subList(from, Math.min(from + batchSize, recovered.size())), true);
+        }
+
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException ex) {
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+            if (!batch.isEmpty()) {
+                write(batch, false);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Waits for a first comment, then gathers more for up to {@code max-delay} or until the
+     * batch is full.
+     */
+    private void collect(List<PendingComment> batch) throws InterruptedException {
+        PendingComment first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxDelay.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            PendingComment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * Writes the batch, retrying while the database is unavailable. A batch the database
+     * rejects outright is retried one comment at a time so a single bad row is dropped alone.
+     */
+    private void write(List<PendingComment> batch, boolean recovered) {
+        while (true) {
+            try {
+                flushTimer.record(() -> insert(batch, recovered));
+                commentLog.flushed(batch.size());
+                return;
+            } catch (DataIntegrityViolationException ex) {
+                if (batch.size() > 1) {
+                    batch.forEach(comment -> write(List.of(comment), recovered));
+                } else {
+                    dropped.increment();
+                    log.error("Dropping comment {} on post {}: {}", batch.get(0).getId(), batch.get(0).getPostId(),
+                            ex.getMostSpecificCause().getMessage());
+                    commentLog.flushed(1);
+                }
+                return;
+            } catch (DataAccessException | TransactionException ex) {
+                if (!running) {
+                    log.warn("Leaving {} comments in the log for the next start", batch.size());
+                    return;
+                }
+                log.warn("Failed to write {} queued comments, retrying in {}", batch.size(), RETRY_DELAY, ex);
+                try {
+                    Thread.sleep(RETRY_DELAY.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private void insert(List<PendingComment> batch, boolean recovered) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<PendingComment> rows = recovered ? withoutExisting(batch) : batch;
+            if (rows.isEmpty()) {
+                return;
+            }
+            List<Object[]> inserts = new ArrayList<>(rows.size());
+            Map<Long, Integer> perPost = new LinkedHashMap<>();
+            for (PendingComment comment : rows) {
+                inserts.add(new Object[]{comment.getId(), comment.getText(), comment.getPostId(),
+                        comment.getCreatedById(), Timestamp.valueOf(comment.getCreatedAt())});
+                perPost.merge(comment.getPostId(), 1, Integer::sum);
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+            jdbcTemplate.batchUpdate(INCREMENT_COUNT_SQL, perPost.entrySet().stream()
+                    .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                    .toList());
+
+            perPost.keySet().forEach(postCache::evictPost);
+            for (PendingComment comment : rows) {
+                eventPublisher.publishEvent(new CommentAddedEvent(comment.getPostId(),
+                        comment.getPostCreatedByUsername(), comment.getPostStatus(), comment.toResponse()));
+            }
+        });
+    }
+
+    private List<PendingComment> withoutExisting(List<PendingComment> batch) {
+        Set<Long> existing = new HashSet<>(commentRepository.findExistingIds(
+                batch.stream().map(PendingComment::getId).toList()));
+        return batch.stream().filter(comment -> !existing.contains(comment.getId())).toList();
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.writebehind;
+
+import com.project.dto.comment.CommentResponse;
+import com.project.enums.PostStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A comment that has been accepted and logged but not yet written to the database. It
+ * carries the post details the {@code CommentAddedEvent} needs, as they were at acceptance.
+ */
+@Getter
+@AllArgsConstructor
+public class PendingComment {
+
+    private final Long id;
+    private final Long postId;
+    private final String text;
+    private final Long createdById;
+    private final String createdByUsername;
+    private final String postCreatedByUsername;
+    private final PostStatus postStatus;
+    private final LocalDateTime createdAt;
+
+    public CommentResponse toResponse() {
+        return new CommentResponse(id, text, postId, createdByUsername, createdAt);
+    }
+}
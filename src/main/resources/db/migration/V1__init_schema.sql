@@ -0,0 +1,56 @@
+CREATE TABLE roles (
+    id   BIGINT      NOT NULL AUTO_INCREMENT,
+    name VARCHAR(32) NOT NULL,
+    CONSTRAINT pk_roles PRIMARY KEY (id),
+    CONSTRAINT uk_roles_name UNIQUE (name),
+    CONSTRAINT ck_roles_name CHECK (name IN ('USER', 'ADMIN'))
+) ENGINE = InnoDB;
+
+CREATE TABLE users (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL,
+    role_id BIGINT NOT NULL,
+    CONSTRAINT pk_user_roles PRIMARY KEY (user_id, role_id),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_roles_role FOREIGN KEY (role_id) REFERENCES roles (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_user_roles_role ON user_roles (role_id);
+
+CREATE TABLE posts (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    title           VARCHAR(255) NOT NULL,
+    description     TEXT,
+    type            VARCHAR(32)  NOT NULL,
+    status          VARCHAR(32)  NOT NULL,
+    created_by      BIGINT       NOT NULL,
+    assigned_update TEXT,
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    CONSTRAINT pk_posts PRIMARY KEY (id),
+    CONSTRAINT fk_posts_created_by FOREIGN KEY (created_by) REFERENCES users (id),
+    CONSTRAINT ck_posts_type CHECK (type IN ('ISSUE', 'COMPLAINT', 'ANNOUNCEMENT', 'LOST', 'HELP')),
+    CONSTRAINT ck_posts_status CHECK (status IN ('DRAFT', 'PENDING_APPROVAL', 'APPROVED', 'REJECTED', 'CLOSED'))
+) ENGINE = InnoDB;
+
+CREATE TABLE comments (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    text       TEXT   NOT NULL,
+    post_id    BIGINT NOT NULL,
+    created_by BIGINT NOT NULL,
+    created_at DATETIME(6),
+    CONSTRAINT pk_comments PRIMARY KEY (id),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_comments_created_by FOREIGN KEY (created_by) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_comments_created_by ON comments (created_by);
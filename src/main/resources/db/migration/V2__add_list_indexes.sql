@@ -0,0 +1,6 @@
+-- Keyset pagination indexes for the post and comment list queries; each ends in the
+-- (created_at, id) sort key so pages are read in index order.
+CREATE INDEX idx_posts_status_created_at ON posts (status, created_at, id);
+CREATE INDEX idx_posts_created_by_created_at ON posts (created_by, created_at, id);
+CREATE INDEX idx_posts_created_at ON posts (created_at, id);
+CREATE INDEX idx_comments_post_created_at ON comments (post_id, created_at, id);
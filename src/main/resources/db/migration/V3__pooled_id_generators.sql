@@ -0,0 +1,13 @@
+-- Hibernate hands out ids in blocks of 50 from this table (pooled optimizer), so inserts
+-- no longer need AUTO_INCREMENT round trips and can be batched. A stored value N means ids
+-- up to N - 50 may already be in use; start each row past the current maximum id.
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT       NOT NULL,
+    CONSTRAINT pk_id_generators PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB;
+
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'roles', COALESCE(MAX(id), 0) + 51 FROM roles;
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'users', COALESCE(MAX(id), 0) + 51 FROM users;
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'posts', COALESCE(MAX(id), 0) + 51 FROM posts;
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'comments', COALESCE(MAX(id), 0) + 51 FROM comments;
@@ -0,0 +1,15 @@
+-- Running post counts per status, type and author, so the stats endpoint never has to scan
+-- posts. PostCounters adds its in-memory deltas here and reloads the totals periodically.
+CREATE TABLE post_counters (
+    dimension   VARCHAR(16)  NOT NULL,
+    counter_key VARCHAR(255) NOT NULL,
+    post_count  BIGINT       NOT NULL,
+    CONSTRAINT pk_post_counters PRIMARY KEY (dimension, counter_key)
+) ENGINE = InnoDB;
+
+INSERT INTO post_counters (dimension, counter_key, post_count)
+    SELECT 'status', status, COUNT(*) FROM posts GROUP BY status;
+INSERT INTO post_counters (dimension, counter_key, post_count)
+    SELECT 'type', type, COUNT(*) FROM posts GROUP BY type;
+INSERT INTO post_counters (dimension, counter_key, post_count)
+    SELECT 'author', u.username, COUNT(*) FROM posts p JOIN users u ON u.id = p.created_by GROUP BY u.username;
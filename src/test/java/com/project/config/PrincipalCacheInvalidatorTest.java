@@ -0,0 +1,75 @@
+package com.project.config;
+
+import com.project.entity.Role;
+import com.project.entity.User;
+import com.project.enums.RoleType;
+import com.project.repository.RoleRepository;
+import com.project.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PrincipalCacheInvalidatorTest {
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void roleChangeEvictsTheCachedPrincipalOnCommit() {
+        CustomUserDetails before = load("jane");
+        assertThat(load("jane")).isSameAs(before);
+        assertThat(before.isAdmin()).isFalse();
+
+        try {
+            changeUser("jane", user -> user.getRoles().add(role(RoleType.ADMIN)));
+            CustomUserDetails promoted = load("jane");
+            assertThat(promoted).isNotSameAs(before);
+            assertThat(promoted.isAdmin()).isTrue();
+        } finally {
+            changeUser("jane", user -> user.getRoles().removeIf(role -> role.getName() == RoleType.ADMIN));
+        }
+        assertThat(load("jane").isAdmin()).isFalse();
+    }
+
+    @Test
+    void profileChangeEvictsTheCachedPrincipalOnCommit() {
+        CustomUserDetails before = load("john");
+        try {
+            changeUser("john", user -> user.setEmail("john.changed@example.com"));
+            assertThat(load("john").getEmail()).isEqualTo("john.changed@example.com");
+        } finally {
+            changeUser("john", user -> user.setEmail(before.getEmail()));
+        }
+        assertThat(load("john").getEmail()).isEqualTo(before.getEmail());
+    }
+
+    private CustomUserDetails load(String username) {
+        return (CustomUserDetails) userDetailsService.loadUserByUsername(username);
+    }
+
+    private Role role(RoleType type) {
+        return roleRepository.findByName(type).orElseThrow();
+    }
+
+    private void changeUser(String username, Consumer<User> change) {
+        transactionTemplate.executeWithoutResult(status ->
+                change.accept(userRepository.findByUsername(username).orElseThrow()));
+    }
+}
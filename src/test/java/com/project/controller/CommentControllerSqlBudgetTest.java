@@ -0,0 +1,99 @@
+package com.project.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cache.PostCache;
+import com.project.config.CustomUserDetails;
+import com.project.config.CustomUserDetailsService;
+import com.project.dto.comment.CommentRequest;
+import com.project.dto.post.PostRequest;
+import com.project.enums.PostType;
+import com.project.metrics.SqlBudget;
+import com.project.service.CommentService;
+import com.project.service.PostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for the comment endpoints, measured on a new approved post whose cache
+ * entry has been evicted.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CommentControllerSqlBudgetTest {
+
+    private static final int COMMENTS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    private CustomUserDetails john;
+
+    private CustomUserDetails jane;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        john = (CustomUserDetails) userDetailsService.loadUserByUsername("john");
+        jane = (CustomUserDetails) userDetailsService.loadUserByUsername("jane");
+        postId = postService.createPost(new PostRequest("Quiet hours", "After 10pm", PostType.ANNOUNCEMENT), john)
+                .getId();
+        postService.submitPost(postId, john);
+        postService.approvePost(postId);
+        for (int i = 0; i < COMMENTS; i++) {
+            commentService.addComment(postId, new CommentRequest("Agreed " + i), i % 2 == 0 ? john : jane);
+        }
+        postCache.evictPost(postId);
+    }
+
+    @Test
+    void addComment() throws Exception {
+        String body = objectMapper.writeValueAsString(new CommentRequest("Me too"));
+
+        // Two on the id allocator's pool whenever this comment starts a new block of ids.
+        SqlBudget.atMost(5, () -> mockMvc.perform(post("/api/posts/{postId}/comments", postId).with(user(jane))
+                        .contentType(MediaType.APPLICATION_JSON).content(body)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void getComments() throws Exception {
+        SqlBudget.atMost(2, () -> mockMvc.perform(get("/api/posts/{postId}/comments", postId)
+                        .param("size", "100").with(user(john))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getCommentCount() throws Exception {
+        SqlBudget.atMost(1, () -> mockMvc.perform(get("/api/posts/{postId}/comments/count", postId)
+                        .with(user(john))))
+                .andExpect(status().isOk());
+    }
+}
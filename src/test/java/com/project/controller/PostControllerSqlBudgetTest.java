@@ -0,0 +1,112 @@
+package com.project.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cache.PostCache;
+import com.project.config.CustomUserDetails;
+import com.project.config.CustomUserDetailsService;
+import com.project.dto.post.PostRequest;
+import com.project.dto.post.PostResponse;
+import com.project.enums.PostType;
+import com.project.metrics.SqlBudget;
+import com.project.service.PostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for the post endpoints, measured with cold caches so the worst case is
+ * what gets checked.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PostControllerSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    private CustomUserDetails admin;
+
+    private CustomUserDetails john;
+
+    @BeforeEach
+    void setUp() {
+        admin = (CustomUserDetails) userDetailsService.loadUserByUsername("admin");
+        john = (CustomUserDetails) userDetailsService.loadUserByUsername("john");
+        postCache.evictApprovedFeed();
+    }
+
+    @Test
+    void createPost() throws Exception {
+        String body = objectMapper.writeValueAsString(new PostRequest("Broken lift", "Stuck again", PostType.ISSUE));
+
+        // The insert, plus two on the id allocator's pool for the one request in 50 that fetches a block.
+        SqlBudget.atMost(3, () -> mockMvc.perform(post("/api/posts").with(user(john))
+                        .contentType(MediaType.APPLICATION_JSON).content(body)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void getPostById() throws Exception {
+        Long id = newDraft().getId();
+
+        SqlBudget.atMost(1, () -> mockMvc.perform(get("/api/posts/{id}", id).with(user(john))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllPosts() throws Exception {
+        SqlBudget.atMost(1, () -> mockMvc.perform(get("/api/posts").param("size", "100").with(user(admin))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getApprovedPosts() throws Exception {
+        SqlBudget.atMost(1, () -> mockMvc.perform(get("/api/posts/approved").param("size", "100")
+                        .with(user(john))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getUserPosts() throws Exception {
+        SqlBudget.atMost(1, () -> mockMvc.perform(get("/api/posts/user/posts").param("size", "100")
+                        .with(user(john))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void approvePost() throws Exception {
+        Long id = newDraft().getId();
+        postService.submitPost(id, john);
+
+        SqlBudget.atMost(2, () -> mockMvc.perform(put("/api/posts/{id}/approve", id).with(user(admin))))
+                .andExpect(status().isOk());
+    }
+
+    private PostResponse newDraft() {
+        return postService.createPost(new PostRequest("Lost keys", "Near the gym", PostType.LOST), john);
+    }
+}
@@ -0,0 +1,107 @@
+package com.project.controller;
+
+import com.project.config.CustomUserDetails;
+import com.project.config.CustomUserDetailsService;
+import com.project.dto.post.PostRequest;
+import com.project.dto.post.PostResponse;
+import com.project.enums.PostStatus;
+import com.project.enums.PostType;
+import com.project.service.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.project.support.RowLockContention.TIMEOUT_SECONDS;
+import static com.project.support.RowLockContention.await;
+import static com.project.support.RowLockContention.awaitBlockedSession;
+import static com.project.support.RowLockContention.pendingPost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Two admins moderating the same post at once: the first transition holds the row until it
+ * commits, the second request's conditional UPDATE waits on it and then matches no row, so
+ * it fails with 409 instead of overwriting the first decision.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PostTransitionConflictTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private CustomUserDetails admin;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        admin = (CustomUserDetails) userDetailsService.loadUserByUsername("admin");
+        CustomUserDetails john = (CustomUserDetails) userDetailsService.loadUserByUsername("john");
+        postId = pendingPost(postService, new PostRequest("Flooded basement", "Since Monday", PostType.ISSUE), john);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentRejectOfAPostBeingApprovedGetsConflict() throws Exception {
+        CountDownLatch approved = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+
+        Future<PostResponse> approval = executor.submit(() -> transactionTemplate.execute(status -> {
+            PostResponse response = postService.approvePost(postId);
+            approved.countDown();
+            await(commit);
+            return response;
+        }));
+        await(approved);
+
+        Future<MvcResult> rejection = executor.submit(() -> mockMvc
+                .perform(put("/api/posts/{id}/reject", postId).with(user(admin)))
+                .andReturn());
+        awaitBlockedSession(jdbcTemplate, "second transition");
+        commit.countDown();
+
+        assertThat(approval.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getStatus()).isEqualTo(PostStatus.APPROVED);
+        assertThat(rejection.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getResponse().getStatus()).isEqualTo(409);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT status, version FROM posts WHERE id = ?", postId);
+        assertThat(row.get("status")).isEqualTo(PostStatus.APPROVED.name());
+        // created at 0, submitted once, approved once
+        assertThat(((Number) row.get("version")).longValue()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.entity;
+
+import com.project.entity.id.IdBlockAllocator;
+import com.project.metrics.SqlStatementStats;
+import com.project.support.SeedData;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.proxy.HibernateProxy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PostIdentityTest {
+
+    private static final int COMMENTS = 10_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
+    private long postId;
+
+    @BeforeEach
+    void createPostWithComments() {
+        long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'john'", Long.class);
+        SeedData seedData = new SeedData(jdbcTemplate, idBlockAllocator);
+        postId = seedData.approvedPosts("Busy post", 1, i -> userId);
+        seedData.comments(postId, COMMENTS, i -> userId);
+    }
+
+    @Test
+    void hashingEqualsAndToStringOfPostIssueNoSql() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = entityManager.find(Post.class, postId);
+            // Otherwise getReference hands back the managed instance rather than a proxy.
+            entityManager.clear();
+            Post proxy = entityManager.getReference(Post.class, postId);
+            assertThat(proxy).isInstanceOf(HibernateProxy.class);
+
+            try (SqlStatementStats sql = SqlStatementStats.open()) {
+                Set<Post> posts = new HashSet<>();
+                posts.add(post);
+                assertThat(posts).contains(proxy);
+                assertThat(post).isEqualTo(proxy);
+                assertThat(post.toString()).contains("Busy post");
+
+                assertThat(sql.getStatements()).isZero();
+            }
+            assertThat(Hibernate.isInitialized(proxy)).isFalse();
+            assertThat(Hibernate.isInitialized(post.getComments())).isFalse();
+        });
+    }
+
+    @Test
+    void hashingLoadedCommentsIssuesNoFurtherSql() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = entityManager.find(Post.class, postId);
+            Hibernate.initialize(post.getComments());
+
+            try (SqlStatementStats sql = SqlStatementStats.open()) {
+                Set<Comment> comments = new HashSet<>(post.getComments());
+                comments.forEach(Comment::toString);
+
+                assertThat(comments).hasSize(COMMENTS);
+                assertThat(sql.getStatements()).isZero();
+            }
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package com.project.metrics;
+
+import com.project.config.CustomUserDetailsService;
+import com.project.entity.id.IdBlockAllocator;
+import com.project.stats.PostCounters;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statements that never go through a Hibernate session are counted too.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CountingDataSourceTest {
+
+    @Autowired
+    private PostCounters postCounters;
+
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Test
+    void jdbcTemplateWorkCountsAgainstTheBudget() {
+        // One batch for the recount and one query to reload the totals.
+        assertThatThrownBy(() -> SqlBudget.atMost(1, () -> {
+            postCounters.recount();
+            return null;
+        })).isInstanceOf(AssertionError.class).hasMessageContaining("SQL statements run");
+    }
+
+    @Test
+    void idAllocatorPoolIsCounted() {
+        try (SqlStatementStats sql = SqlStatementStats.open()) {
+            idBlockAllocator.reserve("posts", 1);
+
+            assertThat(sql.getStatements()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void streamedResponseIsCountedAcrossTheAsyncDispatch() throws Exception {
+        DistributionSummary requests = meterRegistry.summary("app.request.sql.statements",
+                "uri", "/api/posts/approved", "method", "GET");
+        long recorded = requests.count();
+        UserDetails john = userDetailsService.loadUserByUsername("john");
+
+        try (SqlStatementStats sql = SqlStatementStats.open()) {
+            MvcResult started = mockMvc.perform(get("/api/posts/approved").accept(MediaType.APPLICATION_NDJSON)
+                            .with(user(john)))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            assertThat(requests.count()).isEqualTo(recorded);
+
+            mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+
+            assertThat(sql.getStatements()).isPositive();
+            assertThat(requests.count()).isEqualTo(recorded + 1);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.metrics;
+
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asserts how many SQL statements a block of code runs on the calling thread, as counted by
+ * {@link SqlStatementStats}. MockMvc handles a request on the caller's thread, so a whole
+ * request can be measured:
+ *
+ * <pre>
+ * SqlBudget.atMost(2, () -> mockMvc.perform(get("/api/posts/approved")))
+ *         .andExpect(status().isOk());
+ * </pre>
+ */
+public final class SqlBudget {
+
+    private SqlBudget() {
+    }
+
+    public static <T> T atMost(int maxStatements, Callable<T> action) throws Exception {
+        try (SqlStatementStats stats = SqlStatementStats.open()) {
+            T result = action.call();
+            assertThat(stats.getStatements())
+                    .as("SQL statements run")
+                    .isLessThanOrEqualTo(maxStatements);
+            return result;
+        }
+    }
+}
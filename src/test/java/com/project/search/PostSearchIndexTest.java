@@ -0,0 +1,53 @@
+package com.project.search;
+
+import com.project.dto.post.PostResponse;
+import com.project.enums.PostStatus;
+import com.project.enums.PostType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new PostSearchIndex("");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void indexesPostWithoutDescription() {
+        index.index(post(1L, "Broken elevator", null), List.of("Still broken on Monday"));
+        index.refresh();
+
+        assertThat(index.search("elevator", null, null, null, 0, 10).getPostIds()).containsExactly(1L);
+        assertThat(index.search("monday", null, null, null, 0, 10).getPostIds()).containsExactly(1L);
+    }
+
+    @Test
+    void postWithoutDescriptionDoesNotStopLaterPosts() {
+        index.index(post(1L, "Parking permit", null), List.of());
+        index.index(post(2L, "Parking lights", "Lights out on level 2"), List.of());
+        index.refresh();
+
+        assertThat(index.search("parking", null, null, null, 0, 10).getPostIds()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    private static PostResponse post(Long id, String title, String description) {
+        LocalDateTime now = LocalDateTime.now();
+        return new PostResponse(id, title, description, PostType.ISSUE, PostStatus.APPROVED, "john", null,
+                now, now, 0);
+    }
+}
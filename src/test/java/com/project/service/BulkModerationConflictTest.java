@@ -0,0 +1,103 @@
+package com.project.service;
+
+import com.project.config.CustomUserDetails;
+import com.project.config.CustomUserDetailsService;
+import com.project.dto.post.BulkModerationRequest;
+import com.project.dto.post.BulkModerationResponse;
+import com.project.dto.post.BulkModerationResult;
+import com.project.dto.post.PostRequest;
+import com.project.enums.ModerationOutcome;
+import com.project.enums.PostStatus;
+import com.project.enums.PostType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.project.support.RowLockContention.TIMEOUT_SECONDS;
+import static com.project.support.RowLockContention.await;
+import static com.project.support.RowLockContention.awaitBlockedSession;
+import static com.project.support.RowLockContention.pendingPost;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A bulk approval racing a single approval of one of its posts: the bulk request must only
+ * report the posts its own updates moved, even though the other post ends up approved too.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkModerationConflictTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private Long contested;
+
+    private Long uncontested;
+
+    @BeforeEach
+    void setUp() {
+        CustomUserDetails jane = (CustomUserDetails) userDetailsService.loadUserByUsername("jane");
+        contested = pendingPost(postService, new PostRequest("Broken window", null, PostType.LOST), jane);
+        uncontested = pendingPost(postService, new PostRequest("Missing bike", null, PostType.LOST), jane);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void postApprovedConcurrentlyIsNotReportedAsUpdated() throws Exception {
+        CountDownLatch approved = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+
+        Future<?> approval = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            postService.approvePost(contested);
+            approved.countDown();
+            await(commit);
+        }));
+        await(approved);
+
+        Future<BulkModerationResponse> bulk = executor.submit(() -> postService.moderatePosts(
+                new BulkModerationRequest(List.of(contested, uncontested), PostStatus.APPROVED)));
+        awaitBlockedSession(jdbcTemplate, "bulk request's locking read");
+        commit.countDown();
+        approval.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        BulkModerationResponse response = bulk.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Map<Long, ModerationOutcome> outcomes = response.getResults().stream()
+                .collect(Collectors.toMap(BulkModerationResult::getId, BulkModerationResult::getOutcome));
+        assertThat(response.getUpdatedCount()).isEqualTo(1);
+        assertThat(outcomes).containsEntry(uncontested, ModerationOutcome.UPDATED)
+                .containsEntry(contested, ModerationOutcome.INVALID_TRANSITION);
+
+        // created at 0, submitted once, approved once by exactly one of the two requests
+        assertThat(jdbcTemplate.queryForList("SELECT version FROM posts WHERE id IN (?, ?)", Long.class,
+                contested, uncontested)).containsOnly(2L);
+    }
+}
@@ -0,0 +1,119 @@
+package com.project.service;
+
+import com.project.cache.PostCache;
+import com.project.config.CustomUserDetails;
+import com.project.config.CustomUserDetailsService;
+import com.project.entity.id.IdBlockAllocator;
+import com.project.support.SeedData;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Listing N posts or comments must take the same number of statements whatever N is; every
+ * row has its own author, so a lazy load per row would show up as a growing count.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ListingStatementCountTest {
+
+    private static final int SMALL = 5;
+    private static final int LARGE = 50;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SeedData seedData;
+
+    private Statistics statistics;
+
+    private CustomUserDetails admin;
+
+    @BeforeEach
+    void setUp() {
+        seedData = new SeedData(jdbcTemplate, idBlockAllocator);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        admin = (CustomUserDetails) userDetailsService.loadUserByUsername("admin");
+    }
+
+    @Test
+    void postListingTakesConstantStatements() {
+        seed(SMALL);
+        long small = countStatements(() -> postService.getAllPosts(null, SMALL).getItems().size(), SMALL);
+        seed(LARGE);
+        long large = countStatements(() -> postService.getAllPosts(null, LARGE).getItems().size(), LARGE);
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void approvedFeedTakesConstantStatements() {
+        seed(SMALL);
+        postCache.evictApprovedFeed();
+        long small = countStatements(() -> postService.getApprovedPosts(null, SMALL).getItems().size(), SMALL);
+        seed(LARGE);
+        postCache.evictApprovedFeed();
+        long large = countStatements(() -> postService.getApprovedPosts(null, LARGE).getItems().size(), LARGE);
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void commentListingTakesConstantStatements() {
+        long smallPost = seed(SMALL);
+        long small = countStatements(() -> commentService.getCommentsByPostId(smallPost, admin, null, SMALL)
+                .getItems().size(), SMALL);
+        long largePost = seed(LARGE);
+        long large = countStatements(() -> commentService.getCommentsByPostId(largePost, admin, null, LARGE)
+                .getItems().size(), LARGE);
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    private long countStatements(Supplier<Integer> listing, int expectedRows) {
+        statistics.clear();
+        assertThat(listing.get()).isEqualTo(expectedRows);
+        long statements = statistics.getPrepareStatementCount();
+        assertThat(statements).isPositive();
+        return statements;
+    }
+
+    /**
+     * Inserts {@code count} approved posts and one more post carrying {@code count} comments,
+     * each row written by a different user, and returns the id of the commented post.
+     */
+    private long seed(int count) {
+        long firstUserId = seedData.users(count);
+        long commentedPostId = seedData.approvedPosts("Post", count + 1, i -> firstUserId + i % count);
+        seedData.comments(commentedPostId, count, i -> firstUserId + i);
+        return commentedPostId;
+    }
+}
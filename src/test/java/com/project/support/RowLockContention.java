@@ -0,0 +1,69 @@
+package com.project.support;
+
+import com.project.config.CustomUserDetails;
+import com.project.dto.post.PostRequest;
+import com.project.service.PostService;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Steps for racing two transactions on the same rows: one holds its locks until a latch is
+ * released, the test waits until the other is queued behind them, then lets the first commit.
+ *
+ * <pre>
+ * Future&lt;?&gt; first = executor.submit(() -&gt; transactionTemplate.executeWithoutResult(status -&gt; {
+ *     postService.approvePost(id);
+ *     locked.countDown();
+ *     RowLockContention.await(commit);
+ * }));
+ * RowLockContention.await(locked);
+ * Future&lt;?&gt; second = executor.submit(...);
+ * RowLockContention.awaitBlockedSession(jdbcTemplate, "second approval");
+ * commit.countDown();
+ * </pre>
+ */
+public final class RowLockContention {
+
+    public static final long TIMEOUT_SECONDS = 10;
+
+    private RowLockContention() {
+    }
+
+    /**
+     * Creates a post from {@code request} and submits it, so it waits for moderation.
+     */
+    public static Long pendingPost(PostService postService, PostRequest request, CustomUserDetails author) {
+        Long id = postService.createPost(request, author).getId();
+        postService.submitPost(id, author);
+        return id;
+    }
+
+    /**
+     * Waits until some session is queued behind another one's row lock, failing after
+     * {@link #TIMEOUT_SECONDS} with {@code waiter} named as the statement that never blocked.
+     */
+    public static void awaitBlockedSession(JdbcTemplate jdbcTemplate, String waiter) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.sessions WHERE blocker_id IS NOT NULL", Integer.class) == 0) {
+            assertThat(System.nanoTime()).as(waiter + " blocked on the row lock").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Waits for {@code latch} and fails if it is not released within {@link #TIMEOUT_SECONDS}.
+     * Usable inside a transaction callback, which cannot throw {@link InterruptedException}.
+     */
+    public static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).as("latch released").isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
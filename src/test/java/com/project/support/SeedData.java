@@ -0,0 +1,78 @@
+package com.project.support;
+
+import com.project.entity.id.IdBlockAllocator;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Inserts users, posts and comments in JDBC batches, with ids reserved from
+ * {@link IdBlockAllocator}, for tests that need more rows than creating them through the
+ * services would allow. Nothing here goes through Hibernate, so no entity is left cached.
+ */
+public class SeedData {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idBlockAllocator;
+
+    public SeedData(JdbcTemplate jdbcTemplate, IdBlockAllocator idBlockAllocator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idBlockAllocator = idBlockAllocator;
+    }
+
+    /**
+     * Inserts {@code count} users with unique names and returns the first id; the others follow it.
+     */
+    public long users(int count) {
+        long firstId = idBlockAllocator.reserve("users", count);
+        String batch = UUID.randomUUID().toString();
+        List<Object[]> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String username = "reader-" + batch + "-" + i;
+            users.add(new Object[]{firstId + i, username, "{noop}secret", username + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, username, password, email) VALUES (?, ?, ?, ?)", users);
+        return firstId;
+    }
+
+    /**
+     * Inserts {@code count} approved issues titled {@code title} and a number, the i-th written
+     * by {@code author(i)}, and returns the first id; the others follow it.
+     */
+    public long approvedPosts(String title, int count, IntToLongFunction author) {
+        long firstId = idBlockAllocator.reserve("posts", count);
+        Timestamp now = now();
+        List<Object[]> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            posts.add(new Object[]{firstId + i, title + " " + i, author.applyAsLong(i), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO posts (id, title, type, status, created_by, created_at, updated_at, "
+                + "version, comment_count) VALUES (?, ?, 'ISSUE', 'APPROVED', ?, ?, ?, 0, 0)", posts);
+        return firstId;
+    }
+
+    /**
+     * Inserts {@code count} comments on the post, the i-th written by {@code author(i)}, and
+     * adds them to its comment count.
+     */
+    public void comments(long postId, int count, IntToLongFunction author) {
+        long firstId = idBlockAllocator.reserve("comments", count);
+        Timestamp now = now();
+        List<Object[]> comments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            comments.add(new Object[]{firstId + i, "Comment " + i, postId, author.applyAsLong(i), now});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO comments (id, text, post_id, created_by, created_at) VALUES (?, ?, ?, ?, ?)", comments);
+        jdbcTemplate.update("UPDATE posts SET comment_count = comment_count + ? WHERE id = ?", count, postId);
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+}